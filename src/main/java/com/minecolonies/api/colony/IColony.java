@@ -262,6 +262,27 @@ public interface IColony
      */
     IReproductionManager getReproductionManager();
 
+    /**
+     * Get the travel time manager of the colony.
+     *
+     * @return the travel time manager.
+     */
+    ITravelTimeManager getTravelTimeManager();
+
+    /**
+     * Get the dropped item manager of the colony.
+     *
+     * @return the dropped item manager.
+     */
+    IDroppedItemManager getDroppedItemManager();
+
+    /**
+     * Get the combat awareness manager of the colony.
+     *
+     * @return the combat awareness manager.
+     */
+    ICombatAwarenessManager getCombatAwarenessManager();
+
     /**
      * Get the event description manager of the colony.
      *
@@ -56,4 +56,14 @@ public interface IColonyRaidEvent extends IColonyEntitySpawnEvent
      * Set the raid event to mercy.
      */
     void setMercyEnd();
+
+    /**
+     * Spawn the next raiders this raid has queued, called every few ticks.
+     *
+     * @param budget the max amount of raiders to spawn.
+     */
+    default void spawnQueuedRaiders(final int budget)
+    {
+        // Nothing queued by default.
+    }
 }
@@ -233,6 +233,11 @@ public interface IJob<AI extends ITickingStateAI> extends INBTSerializable<Compo
      */
     void processOfflineTime(long time);
 
+    /**
+     * Simulate the work of the job without moving the citizen, called every slow colony tick while the citizen has no loaded entity and no player is close to the colony.
+     */
+    void simulateOffscreenWork();
+
     /**
      * Serialize the job to a buffer.
      * @param buffer the buffer to serialize it to.
@@ -0,0 +1,31 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Colony wide combat awareness, sharing entity lookups and line of sight checks between all guards and raiders fighting in and around a colony.
+ */
+public interface ICombatAwarenessManager
+{
+    /**
+     * Get the living entities intersecting an area. The entities are looked up per chunk section and shared for a short time.
+     *
+     * @param area the area to look in.
+     * @return a new list of the live entities.
+     */
+    List<LivingEntity> getEntitiesInArea(@NotNull final AABB area);
+
+    /**
+     * Check if an entity can see another one, the result is shared for a short time.
+     *
+     * @param user   the looking entity.
+     * @param target the entity to look at.
+     * @return true if there is a line of sight.
+     */
+    boolean hasLineOfSight(@NotNull final Mob user, @NotNull final LivingEntity target);
+}
@@ -0,0 +1,50 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
+
+/**
+ * Colony wide index of the item entities lying around in the loaded chunks of the colony.
+ */
+public interface IDroppedItemManager
+{
+    /**
+     * Track an item entity in a chunk of the colony.
+     *
+     * @param item the item entity.
+     */
+    void onItemAdded(@NotNull final ItemEntity item);
+
+    /**
+     * Stop tracking an item entity which left the world or the colony.
+     *
+     * @param item the item entity.
+     */
+    void onItemRemoved(@NotNull final ItemEntity item);
+
+    /**
+     * Get all live item entities intersecting an area.
+     *
+     * @param area the area to look in.
+     * @return a new list of the items, or null if the area is not fully within the loaded chunks of the colony and the world has to be queried instead.
+     */
+    @Nullable
+    List<ItemEntity> getItemsInArea(@NotNull final AABB area);
+
+    /**
+     * Move the tracked items which moved to another chunk and drop the dead ones.
+     *
+     * @param colony the colony ticking.
+     */
+    void onColonyTick(@NotNull final IColony colony);
+
+    /**
+     * Stop tracking all items, called when the colony is deleted.
+     */
+    void clear();
+}
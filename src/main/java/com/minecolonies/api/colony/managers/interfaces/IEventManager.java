@@ -74,6 +74,11 @@ public interface IEventManager
      */
     void onColonyTick(@NotNull IColony colony);
 
+    /**
+     * Spawns the queued raiders of the active raids, called from the colony every few ticks.
+     */
+    void spawnQueuedRaiders();
+
     /**
      * Gets an event by its id.
      *
@@ -116,6 +116,11 @@ public interface IRaiderManager
      */
     BlockPos calculateSpawnLocation();
 
+    /**
+     * Prepares another spawn location for a planned raid ahead of time, so the raid start does not have to search for all of them at once.
+     */
+    void prepareSpawnLocation();
+
     /**
      * Getter for the last spawn points.
      *
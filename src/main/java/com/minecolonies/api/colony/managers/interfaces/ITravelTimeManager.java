@@ -0,0 +1,41 @@
+package com.minecolonies.api.colony.managers.interfaces;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Colony wide cache of the real walking distances between buildings.
+ */
+public interface ITravelTimeManager
+{
+    /**
+     * Get the walking distance between two positions.
+     * When both positions are buildings of the colony and the distance is not known yet, the straight line distance is returned
+     * and the walking distance is computed in the background.
+     *
+     * @param from the start position.
+     * @param to   the end position.
+     * @return the walking distance in blocks.
+     */
+    double getWalkingDistance(@NotNull final BlockPos from, @NotNull final BlockPos to);
+
+    /**
+     * Invalidate all cached distances from and to a building, called when it is added, removed or upgraded.
+     *
+     * @param building the id of the building.
+     */
+    void onBuildingChanged(@NotNull final BlockPos building);
+
+    /**
+     * Invalidate all cached distances, for example after large terrain changes.
+     */
+    void clear();
+
+    /**
+     * Collect finished path calculations and start new ones.
+     *
+     * @param colony the colony ticking.
+     */
+    void onColonyTick(@NotNull final IColony colony);
+}
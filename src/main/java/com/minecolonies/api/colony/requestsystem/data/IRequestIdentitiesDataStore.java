@@ -3,9 +3,33 @@ package com.minecolonies.api.colony.requestsystem.data;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
+import java.util.Collection;
+
 /**
  * The KV-Store for the requests and their identities. Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
+ * Keeps an index of the requests per requester, which is only maintained when requests are added and removed through this interface.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Add a request to the store.
+     *
+     * @param request the request to add.
+     */
+    void add(IRequest<?> request);
+
+    /**
+     * Remove a request from the store.
+     *
+     * @param token the token of the request to remove.
+     */
+    void remove(IToken<?> token);
+
+    /**
+     * Get the tokens of all requests made by a requester.
+     *
+     * @param requesterId the id of the requester.
+     * @return an unmodifiable view on the tokens of the requests.
+     */
+    Collection<IToken<?>> getRequestsMadeBy(IToken<?> requesterId);
 }
@@ -175,6 +175,14 @@ public interface IRequestManager extends INBTSerializable<CompoundTag>, ITickabl
      */
     void onColonyUpdate(@NotNull final Predicate<IRequest<?>> shouldTriggerReassign);
 
+    /**
+     * Method used to indicate that the availability of an item in the colony changed, for example because it was inserted into a rack or a recipe for it was added.
+     * The signals are collected and on the next tick only the requests waiting on one of the items get reassigned.
+     *
+     * @param stack the stack which changed availability.
+     */
+    void onItemAvailabilityChanged(@NotNull final ItemStack stack);
+
     /**
      * Get the player resolve.
      *
@@ -0,0 +1,194 @@
+package com.minecolonies.api.compatibility;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.items.ModTags;
+import com.minecolonies.api.util.Log;
+import io.netty.buffer.Unpooled;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.tags.ItemTags;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.Ingredient;
+import net.minecraft.world.item.crafting.RecipeManager;
+import net.minecraft.world.item.crafting.RecipeType;
+import net.minecraft.world.level.storage.LevelResource;
+import net.minecraftforge.common.Tags;
+import net.minecraftforge.fml.ModList;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Cache of the item classification of the {@link CompatibilityManager} in the world folder, so a restart with the same mods, items, tags and smelting recipes skips the
+ * classification. The cache is keyed by a fingerprint of everything the classification reads.
+ */
+final class CompatibilityCache
+{
+    /**
+     * Name of the cache file.
+     */
+    private static final String FILENAME_CACHE = "compatibility.cache";
+
+    /**
+     * Version of the cache format, bump when the classification or its serialization changes.
+     */
+    private static final int CACHE_VERSION = 2;
+
+    /**
+     * The tags the classification reads.
+     */
+    private static final List<TagKey<Item>> CLASSIFICATION_TAGS = List.of(
+      Tags.Items.ORES, ModTags.breakable_ore, ModTags.raw_ore,
+      ItemTags.SAPLINGS, Tags.Items.MUSHROOMS, ModTags.fungi,
+      ModTags.floristFlowers, ItemTags.FLOWERS, ModTags.excludedFood);
+
+    private CompatibilityCache()
+    {
+        throw new IllegalStateException("Tried to initialize: CompatibilityCache but this is a Utility class.");
+    }
+
+    /**
+     * Calculate the fingerprint of the classification inputs.
+     *
+     * @param items         the snapshot of all items.
+     * @param recipeManager the recipe manager.
+     * @param registries    the registry access, to get the recipe results.
+     * @return the fingerprint.
+     */
+    @NotNull
+    static String fingerprint(@NotNull final List<ItemStack> items, @NotNull final RecipeManager recipeManager, @NotNull final RegistryAccess registries)
+    {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(CACHE_VERSION);
+
+        ModList.get().getMods().forEach(mod -> hasher.putString(mod.getModId(), StandardCharsets.UTF_8).putString(mod.getVersion().toString(), StandardCharsets.UTF_8));
+
+        // numeric ids too, the cached stacks are written with them
+        for (final ItemStack stack : items)
+        {
+            hashStack(hasher, stack);
+        }
+
+        for (final TagKey<Item> tag : CLASSIFICATION_TAGS)
+        {
+            hasher.putString(tag.location().toString(), StandardCharsets.UTF_8);
+            BuiltInRegistries.ITEM.getTagOrEmpty(tag).forEach(holder -> hasher.putInt(BuiltInRegistries.ITEM.getId(holder.value())));
+        }
+
+        recipeManager.byType(RecipeType.SMELTING).entrySet().stream()
+          .sorted(Map.Entry.comparingByKey())
+          .forEach(entry -> {
+              hasher.putString(entry.getKey().toString(), StandardCharsets.UTF_8);
+              final ItemStack result = entry.getValue().getResultItem(registries);
+              hashStack(hasher, result);
+              hasher.putInt(result.getCount());
+              for (final Ingredient ingredient : entry.getValue().getIngredients())
+              {
+                  final ItemStack[] stacks = ingredient.getItems();
+                  hasher.putInt(stacks.length);
+                  for (final ItemStack stack : stacks)
+                  {
+                      hashStack(hasher, stack);
+                  }
+              }
+          });
+
+        return hasher.hash().toString();
+    }
+
+    /**
+     * Hash the item and tag of a stack.
+     *
+     * @param hasher the hasher.
+     * @param stack  the stack.
+     */
+    private static void hashStack(@NotNull final Hasher hasher, @NotNull final ItemStack stack)
+    {
+        hasher.putInt(BuiltInRegistries.ITEM.getId(stack.getItem()));
+        hasher.putString(BuiltInRegistries.ITEM.getKey(stack.getItem()).toString(), StandardCharsets.UTF_8);
+        hasher.putInt(stack.hasTag() ? stack.getTag().hashCode() : 0);
+    }
+
+    /**
+     * Read the cached classification.
+     *
+     * @param server      the server.
+     * @param fingerprint the fingerprint of the current classification inputs.
+     * @return the cached classification or null if there is none for the fingerprint.
+     */
+    @Nullable
+    static FriendlyByteBuf read(@NotNull final MinecraftServer server, @NotNull final String fingerprint)
+    {
+        final Path file = getCacheFile(server);
+        if (!Files.isRegularFile(file))
+        {
+            return null;
+        }
+
+        try
+        {
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(Files.readAllBytes(file)));
+            if (buf.readUtf().equals(fingerprint))
+            {
+                return buf;
+            }
+        }
+        catch (final IOException | RuntimeException e)
+        {
+            Log.getLogger().warn("Failed to read compatibility cache, discovering again", e);
+        }
+        return null;
+    }
+
+    /**
+     * Write the classification to the cache.
+     *
+     * @param server         the server.
+     * @param fingerprint    the fingerprint of the classification inputs.
+     * @param classification the serialized classification.
+     */
+    static void write(@NotNull final MinecraftServer server, @NotNull final String fingerprint, @NotNull final FriendlyByteBuf classification)
+    {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        buf.writeUtf(fingerprint);
+        buf.writeBytes(classification);
+
+        final byte[] bytes = new byte[buf.readableBytes()];
+        buf.readBytes(bytes);
+        try
+        {
+            final Path file = getCacheFile(server);
+            Files.createDirectories(file.getParent());
+            Files.write(file, bytes);
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Failed to write compatibility cache", e);
+        }
+    }
+
+    /**
+     * Get the cache file in the world folder.
+     *
+     * @param server the server.
+     * @return the path.
+     */
+    @NotNull
+    private static Path getCacheFile(@NotNull final MinecraftServer server)
+    {
+        return server.getWorldPath(LevelResource.ROOT).resolve(FILENAME_MINECOLONIES_PATH).resolve(FILENAME_CACHE);
+    }
+}
@@ -14,6 +14,7 @@ import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.crafting.registry.ModRecipeSerializer;
 import com.minecolonies.api.items.ModTags;
 import com.minecolonies.api.util.*;
+import io.netty.buffer.Unpooled;
 import it.unimi.dsi.fastutil.objects.Object2IntLinkedOpenHashMap;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -24,6 +25,7 @@ import net.minecraft.nbt.Tag;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.tags.ItemTags;
 import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.MobCategory;
@@ -62,6 +64,12 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private static final int MAX_DEPTH = 100;
 
+    /**
+     * Order of the synced item sets, the hash sets iterate by identity hashes which change with every start, so the synced data is sorted to be the same each time.
+     */
+    private static final Comparator<ItemStorage> ITEM_STORAGE_ORDER = Comparator.comparingInt((ItemStorage storage) -> BuiltInRegistries.ITEM.getId(storage.getItem()))
+      .thenComparing(storage -> storage.getItemStack().hasTag() ? storage.getItemStack().getTag().toString() : "");
+
     /**
      * BiMap of saplings and leaves.
      */
@@ -164,15 +172,7 @@ public class CompatibilityManager implements ICompatibilityManager
 
     private void clear()
     {
-        saplings.clear();
-        oreBlocks.clear();
-        smeltableOres.clear();
-        plantables.clear();
-        beekeeperflowers = ImmutableSet.of();
-
-        food.clear();
-        edibles.clear();
-        fuel.clear();
+        clearClassification();
         compostRecipes.clear();
 
         luckyOres.clear();
@@ -193,6 +193,7 @@ public class CompatibilityManager implements ICompatibilityManager
     {
         clear();
         discoverAllItems(level);
+        classifyItems(recipeManager, level);
 
         discoverLuckyOres();
         discoverRecruitCosts();
@@ -206,15 +207,7 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public void serialize(@NotNull final FriendlyByteBuf buf)
     {
-        serializeItemStorageList(buf, saplings);
-        serializeBlockList(buf, oreBlocks);
-        serializeItemStorageList(buf, smeltableOres);
-        serializeItemStorageList(buf, plantables);
-        serializeItemStorageList(buf, beekeeperflowers);
-
-        serializeItemStorageList(buf, food);
-        serializeItemStorageList(buf, edibles);
-        serializeItemStorageList(buf, fuel);
+        serializeClassification(buf);
         serializeRegistryIds(buf, ForgeRegistries.ENTITY_TYPES, monsters);
 
         serializeCompostRecipes(buf, compostRecipes);
@@ -225,17 +218,9 @@ public class CompatibilityManager implements ICompatibilityManager
     public void deserialize(@NotNull final FriendlyByteBuf buf, final ClientLevel level)
     {
         clear();
+        // the classification comes from the server, only the item list and creative tabs are needed here
         discoverAllItems(level);
-
-        saplings.addAll(deserializeItemStorageList(buf));
-        oreBlocks.addAll(deserializeBlockList(buf));
-        smeltableOres.addAll(deserializeItemStorageList(buf));
-        plantables.addAll(deserializeItemStorageList(buf));
-        beekeeperflowers = ImmutableSet.copyOf(deserializeItemStorageList(buf));
-
-        food.addAll(deserializeItemStorageList(buf));
-        edibles.addAll(deserializeItemStorageList(buf));
-        fuel.addAll(deserializeItemStorageList(buf));
+        deserializeClassification(buf);
         monsters = ImmutableSet.copyOf(deserializeRegistryIds(buf, ForgeRegistries.ENTITY_TYPES));
 
         Log.getLogger().info("Synchronized {} saplings", saplings.size());
@@ -260,7 +245,7 @@ public class CompatibilityManager implements ICompatibilityManager
       @NotNull final FriendlyByteBuf buf,
       @NotNull final Collection<ItemStorage> list)
     {
-        buf.writeCollection(list, StandardFactoryController.getInstance()::serialize);
+        buf.writeCollection(list.stream().sorted(ITEM_STORAGE_ORDER).toList(), StandardFactoryController.getInstance()::serialize);
     }
 
     @NotNull
@@ -273,7 +258,7 @@ public class CompatibilityManager implements ICompatibilityManager
       @NotNull final FriendlyByteBuf buf,
       @NotNull final Collection<Block> list)
     {
-        buf.writeCollection(list.stream().map(ItemStack::new).toList(), FriendlyByteBuf::writeItem);
+        buf.writeCollection(list.stream().sorted(Comparator.comparingInt(BuiltInRegistries.BLOCK::getId)).map(ItemStack::new).toList(), FriendlyByteBuf::writeItem);
     }
 
     @NotNull
@@ -291,7 +276,7 @@ public class CompatibilityManager implements ICompatibilityManager
       @NotNull final IForgeRegistry<?> registry,
       @NotNull final Collection<ResourceLocation> ids)
     {
-        buf.writeCollection(ids, (b, id) -> b.writeRegistryIdUnsafe(registry, id));
+        buf.writeCollection(ids.stream().sorted().toList(), (b, id) -> b.writeRegistryIdUnsafe(registry, id));
     }
 
     @NotNull
@@ -309,7 +294,7 @@ public class CompatibilityManager implements ICompatibilityManager
       @NotNull final FriendlyByteBuf buf,
       @NotNull final Map<Item, CompostRecipe> compostRecipes)
     {
-        final List<CompostRecipe> recipes = compostRecipes.values().stream().distinct().toList();
+        final List<CompostRecipe> recipes = compostRecipes.values().stream().distinct().sorted(Comparator.comparing(CompostRecipe::getId)).toList();
         buf.writeCollection(recipes, ModRecipeSerializer.CompostRecipeSerializer.get()::toNetwork);
     }
 
@@ -507,10 +492,14 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isOre(@NotNull final ItemStack stack)
     {
-        if (isMineableOre(stack) || stack.is(ModTags.raw_ore) || stack.is(ModTags.breakable_ore))
+        if (stack.is(ModTags.breakable_ore))
         {
-            ItemStack smeltingResult = MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack);
-            return stack.is(ModTags.breakable_ore) || !smeltingResult.isEmpty();
+            return true;
+        }
+
+        if (isMineableOre(stack) || stack.is(ModTags.raw_ore))
+        {
+            return !MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty();
         }
 
         return false;
@@ -628,7 +617,6 @@ public class CompatibilityManager implements ICompatibilityManager
         }
 
         final Set<ItemStorage> tempDuplicates = new HashSet<>();
-        final Set<ItemStorage> tempFlowers = new HashSet<>();
 
         final CreativeModeTab.ItemDisplayParameters tempDisplayParams = new CreativeModeTab.ItemDisplayParameters(level.enabledFeatures(), false, level.registryAccess());
 
@@ -645,70 +633,170 @@ public class CompatibilityManager implements ICompatibilityManager
                 }
 
                 listBuilder.add(item);
-                discoverSaplings(item);
-                discoverOres(item);
-                discoverPlantables(item);
-                discoverFood(item);
-                discoverFuel(item);
-                discoverBeekeeperFlowers(item, tempFlowers);
-
                 creativeModeTabMap.put(new ItemStorage(item), tab);
             }
         });
 
         discoverFungi();
 
-        beekeeperflowers = ImmutableSet.copyOf(tempFlowers);
-        Log.getLogger().info("Finished discovering Ores " + oreBlocks.size() + " " + smeltableOres.size());
-        Log.getLogger().info("Finished discovering saplings " + saplings.size());
-        Log.getLogger().info("Finished discovering plantables " + plantables.size());
-        Log.getLogger().info("Finished discovering food " + edibles.size() + " " + food.size());
-        Log.getLogger().info("Finished discovering fuel " + fuel.size());
-        Log.getLogger().info("Finished discovering flowers " + beekeeperflowers.size());
-
-
         allItems = listBuilder.build();
         Log.getLogger().info("Finished discovering items " + allItems.size());
     }
 
     /**
-     * Discover all flowers for the beekeeper.
+     * Classify all items into saplings, ores, plantables, food, fuel and flowers, or load the classification from the cache if nothing it depends on changed.
+     * The passes only read tags, item properties and the furnace recipes and run in parallel over the item snapshot. Fuel fires a Forge event per item, so it stays on
+     * this thread.
+     *
+     * @param recipeManager the recipe manager.
+     * @param level         the level.
      */
-    private void discoverBeekeeperFlowers(final ItemStack item, final Set<ItemStorage> tempFlowers)
+    private void classifyItems(@NotNull final RecipeManager recipeManager, final Level level)
     {
-        if (item.is(ItemTags.FLOWERS))
+        final MinecraftServer server = level.getServer();
+        final String fingerprint = server == null ? null : CompatibilityCache.fingerprint(allItems, recipeManager, server.registryAccess());
+        if (fingerprint != null)
         {
-            tempFlowers.add(new ItemStorage(item));
+            final FriendlyByteBuf cached = CompatibilityCache.read(server, fingerprint);
+            if (cached != null)
+            {
+                try
+                {
+                    deserializeClassification(cached);
+                    Log.getLogger().info("Loaded item classification from cache");
+                    logClassification();
+                    return;
+                }
+                catch (final RuntimeException e)
+                {
+                    Log.getLogger().warn("Failed to load item classification from cache, discovering again", e);
+                    clearClassification();
+                }
+                finally
+                {
+                    cached.release();
+                }
+            }
         }
-    }
 
-    /**
-     * Discover ores for the Smelter and Miners.
-     */
-    private void discoverOres(final ItemStack stack)
-    {
-        if (stack.is(Tags.Items.ORES) || stack.is(ModTags.breakable_ore) || stack.is(ModTags.raw_ore))
+        saplings.addAll(allItems.parallelStream().filter(CompatibilityManager::isSapling).map(stack -> new ItemStorage(stack, false, true)).toList());
+
+        final List<ItemStack> ores = allItems.parallelStream().filter(CompatibilityManager::isOreCandidate).toList();
+        for (final ItemStack stack : ores)
         {
-            if (stack.getItem() instanceof BlockItem)
+            if (stack.getItem() instanceof BlockItem blockItem)
             {
-                oreBlocks.add(((BlockItem) stack.getItem()).getBlock());
+                oreBlocks.add(blockItem.getBlock());
             }
-            if (!MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty())
+        }
+        smeltableOres.addAll(ores.parallelStream()
+                               .filter(stack -> !MinecoloniesAPIProxy.getInstance().getFurnaceRecipes().getSmeltingResult(stack).isEmpty())
+                               .map(ItemStorage::new)
+                               .toList());
+
+        plantables.addAll(allItems.parallelStream().filter(stack -> stack.is(ModTags.floristFlowers) && stack.getItem() instanceof BlockItem).map(ItemStorage::new).toList());
+
+        final List<ItemStack> foodItems = allItems.parallelStream().filter(stack -> ISFOOD.test(stack) || ISCOOKABLE.test(stack)).toList();
+        foodItems.forEach(stack -> food.add(new ItemStorage(stack)));
+        edibles.addAll(foodItems.parallelStream().filter(FoodUtils.EDIBLE).map(ItemStorage::new).toList());
+
+        beekeeperflowers = ImmutableSet.copyOf(allItems.parallelStream().filter(stack -> stack.is(ItemTags.FLOWERS)).map(ItemStorage::new).toList());
+
+        for (final ItemStack stack : allItems)
+        {
+            if (FurnaceBlockEntity.isFuel(stack))
             {
-                smeltableOres.add(new ItemStorage(stack));
+                fuel.add(new ItemStorage(stack));
             }
         }
+
+        logClassification();
+
+        if (fingerprint != null)
+        {
+            final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+            serializeClassification(buf);
+            CompatibilityCache.write(server, fingerprint, buf);
+            buf.release();
+        }
     }
 
     /**
-     * Discover saplings from the vanilla Saplings tag, used for the Forester
+     * Write the item classification.
+     *
+     * @param buf the buffer to write to.
      */
-    private void discoverSaplings(final ItemStack stack)
+    private void serializeClassification(@NotNull final FriendlyByteBuf buf)
     {
-        if (stack.is(ItemTags.SAPLINGS) || stack.is(Tags.Items.MUSHROOMS) || stack.is(ModTags.fungi))
-        {
-            saplings.add(new ItemStorage(stack, false, true));
-        }
+        serializeItemStorageList(buf, saplings);
+        serializeBlockList(buf, oreBlocks);
+        serializeItemStorageList(buf, smeltableOres);
+        serializeItemStorageList(buf, plantables);
+        serializeItemStorageList(buf, beekeeperflowers);
+
+        serializeItemStorageList(buf, food);
+        serializeItemStorageList(buf, edibles);
+        serializeItemStorageList(buf, fuel);
+    }
+
+    /**
+     * Read the item classification written by {@link #serializeClassification(FriendlyByteBuf)}.
+     *
+     * @param buf the buffer to read from.
+     */
+    private void deserializeClassification(@NotNull final FriendlyByteBuf buf)
+    {
+        saplings.addAll(deserializeItemStorageList(buf));
+        oreBlocks.addAll(deserializeBlockList(buf));
+        smeltableOres.addAll(deserializeItemStorageList(buf));
+        plantables.addAll(deserializeItemStorageList(buf));
+        beekeeperflowers = ImmutableSet.copyOf(deserializeItemStorageList(buf));
+
+        food.addAll(deserializeItemStorageList(buf));
+        edibles.addAll(deserializeItemStorageList(buf));
+        fuel.addAll(deserializeItemStorageList(buf));
+    }
+
+    /**
+     * Drop the item classification.
+     */
+    private void clearClassification()
+    {
+        saplings.clear();
+        oreBlocks.clear();
+        smeltableOres.clear();
+        plantables.clear();
+        beekeeperflowers = ImmutableSet.of();
+
+        food.clear();
+        edibles.clear();
+        fuel.clear();
+    }
+
+    private void logClassification()
+    {
+        Log.getLogger().info("Finished discovering Ores " + oreBlocks.size() + " " + smeltableOres.size());
+        Log.getLogger().info("Finished discovering saplings " + saplings.size());
+        Log.getLogger().info("Finished discovering plantables " + plantables.size());
+        Log.getLogger().info("Finished discovering food " + edibles.size() + " " + food.size());
+        Log.getLogger().info("Finished discovering fuel " + fuel.size());
+        Log.getLogger().info("Finished discovering flowers " + beekeeperflowers.size());
+    }
+
+    /**
+     * Check if an item is an ore for the Smelter and Miners.
+     */
+    private static boolean isOreCandidate(final ItemStack stack)
+    {
+        return stack.is(Tags.Items.ORES) || stack.is(ModTags.breakable_ore) || stack.is(ModTags.raw_ore);
+    }
+
+    /**
+     * Check if an item is a sapling from the vanilla Saplings tag, used for the Forester
+     */
+    private static boolean isSapling(final ItemStack stack)
+    {
+        return stack.is(ItemTags.SAPLINGS) || stack.is(Tags.Items.MUSHROOMS) || stack.is(ModTags.fungi);
     }
 
     /**
@@ -752,46 +840,6 @@ public class CompatibilityManager implements ICompatibilityManager
         }
     }
 
-    /**
-     * Create complete list of plantable items, from the "minecolonies:florist_flowers" tag, for the Florist.
-     */
-    private void discoverPlantables(final ItemStack stack)
-    {
-        if (stack.is(ModTags.floristFlowers))
-        {
-            if (stack.getItem() instanceof BlockItem)
-            {
-                plantables.add(new ItemStorage(stack));
-            }
-        }
-    }
-
-    /**
-     * Create complete list of fuel items.
-     */
-    private void discoverFuel(final ItemStack stack)
-    {
-        if (FurnaceBlockEntity.isFuel(stack))
-        {
-            fuel.add(new ItemStorage(stack));
-        }
-    }
-
-    /**
-     * Create complete list of food items.
-     */
-    private void discoverFood(final ItemStack stack)
-    {
-        if (ISFOOD.test(stack) || ISCOOKABLE.test(stack))
-        {
-            food.add(new ItemStorage(stack));
-            if (FoodUtils.EDIBLE.test(stack))
-            {
-                edibles.add(new ItemStorage(stack));
-            }
-        }
-    }
-
     /**
      * Run through all blocks and check if they match one of our lucky oreBlocks.
      */
@@ -37,6 +37,11 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     maxTreeSize;
     public final ForgeConfigSpec.BooleanValue noSupplyPlacementRestrictions;
     public final ForgeConfigSpec.BooleanValue skyRaiders;
+    public final ForgeConfigSpec.BooleanValue citizenAILevelOfDetail;
+    public final ForgeConfigSpec.IntValue     aiLevelOfDetailNearDistance;
+    public final ForgeConfigSpec.IntValue     aiLevelOfDetailFarDistance;
+    public final ForgeConfigSpec.BooleanValue offscreenWorkSimulation;
+    public final ForgeConfigSpec.BooleanValue builderPlacementBatching;
 
     /*  --------------------------------------------------------------------------- *
      *  ------------------- ######## Research settings ######## ------------------- *
@@ -80,6 +85,8 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue     averageNumberOfNightsBetweenRaids;
     public final ForgeConfigSpec.IntValue     minimumNumberOfNightsBetweenRaids;
     public final ForgeConfigSpec.BooleanValue raidersbreakdoors;
+    public final ForgeConfigSpec.IntValue     raiderSpawnsPerStep;
+    public final ForgeConfigSpec.BooleanValue raiderGroupPathing;
     public final ForgeConfigSpec.BooleanValue mobAttackCitizens;
     public final ForgeConfigSpec.DoubleValue  guardDamageMultiplier;
     public final ForgeConfigSpec.DoubleValue  guardHealthMult;
@@ -111,12 +118,14 @@ public class ServerConfiguration extends AbstractConfiguration
     public final ForgeConfigSpec.IntValue pathfindingDebugVerbosity;
     public final ForgeConfigSpec.IntValue pathfindingMaxThreadCount;
     public final ForgeConfigSpec.IntValue minimumRailsToPath;
+    public final ForgeConfigSpec.BooleanValue flowFieldPathing;
 
     /*  --------------------------------------------------------------------------------- *
      *  ------------------- ######## Request System Settings ######## ------------------- *
      *  --------------------------------------------------------------------------------- */
 
     public final ForgeConfigSpec.BooleanValue creativeResolve;
+    public final ForgeConfigSpec.BooleanValue courierDispatcher;
 
 
     /**
@@ -147,6 +156,11 @@ public class ServerConfiguration extends AbstractConfiguration
         maxTreeSize = defineInteger(builder, "maxtreesize", 400, 1, 1000);
         noSupplyPlacementRestrictions = defineBoolean(builder, "nosupplyplacementrestrictions", false);
         skyRaiders = defineBoolean(builder, "skyraiders", false);
+        citizenAILevelOfDetail = defineBoolean(builder, "citizenailevelofdetail", true);
+        aiLevelOfDetailNearDistance = defineInteger(builder, "ailevelofdetailneardistance", 64, 16, 512);
+        aiLevelOfDetailFarDistance = defineInteger(builder, "ailevelofdetailfardistance", 128, 16, 1024);
+        offscreenWorkSimulation = defineBoolean(builder, "offscreenworksimulation", false);
+        builderPlacementBatching = defineBoolean(builder, "builderplacementbatching", false);
 
         swapToCategory(builder, "research");
         researchCreativeCompletion = defineBoolean(builder, "researchcreativecompletion", true);
@@ -183,6 +197,8 @@ public class ServerConfiguration extends AbstractConfiguration
         minimumNumberOfNightsBetweenRaids = defineInteger(builder, "minimumnumberofnightsbetweenraids", 10, 1, 30);
         mobAttackCitizens = defineBoolean(builder, "mobattackcitizens", true);
         raidersbreakdoors = defineBoolean(builder, "shouldraiderbreakdoors", true);
+        raiderSpawnsPerStep = defineInteger(builder, "raiderspawnsperstep", 4, 1, 80);
+        raiderGroupPathing = defineBoolean(builder, "raidergrouppathing", true);
         guardDamageMultiplier = defineDouble(builder, "guardDamageMultiplier", 1.0, 0.1, 15.0);
         guardHealthMult = defineDouble(builder, "guardhealthmult", 1.0, 0.1, 5.0);
         pvp_mode = defineBoolean(builder, "pvp_mode", false);
@@ -242,10 +258,12 @@ public class ServerConfiguration extends AbstractConfiguration
         pathfindingDebugVerbosity = defineInteger(builder, "pathfindingdebugverbosity", 0, 0, 10);
         minimumRailsToPath = defineInteger(builder, "minimumrailstopath", 8, 5, 100);
         pathfindingMaxThreadCount = defineInteger(builder, "pathfindingmaxthreadcount", 1, 1, 10);
+        flowFieldPathing = defineBoolean(builder, "flowfieldpathing", true);
 
         swapToCategory(builder, "requestSystem");
 
         creativeResolve = defineBoolean(builder, "creativeresolve", false);
+        courierDispatcher = defineBoolean(builder, "courierdispatcher", false);
 
         finishCategory(builder);
     }
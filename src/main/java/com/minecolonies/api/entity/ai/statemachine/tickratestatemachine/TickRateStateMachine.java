@@ -36,6 +36,17 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     private final List<ITickingTransition<S>> stateBlockingTransitions;
     private final List<ITickingTransition<S>> eventTransitions;
 
+    /**
+     * Lowest amount of ticks until any of the transitions is due. While it is larger than the tickrate no transition can trigger and the lists are not visited. It is
+     * collected while the transitions are checked, so transitions which are due every tick keep it at or below the tickrate and their machine is never skipped.
+     */
+    private int ticksToNextDue = 0;
+
+    /**
+     * Ticks skipped since the last visit of the transition lists, which still need to be counted down on the transitions.
+     */
+    private int skippedTicks = 0;
+
     /**
      * Construct a new StateMachine
      *
@@ -72,12 +83,35 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
      */
     @Override
     public void tick()
+    {
+        if (ticksToNextDue > tickRate)
+        {
+            ticksToNextDue -= tickRate;
+            skippedTicks += tickRate;
+            return;
+        }
+
+        applySkippedTicks();
+        ticksToNextDue = Integer.MAX_VALUE;
+        if (checkTransitions())
+        {
+            // the transitions after the one which triggered were not counted down and the state may have changed, so visit all again next tick
+            ticksToNextDue = 0;
+        }
+    }
+
+    /**
+     * Check the transitions in priority order, stopping at the first one which triggers.
+     *
+     * @return true if a transition triggered.
+     */
+    private boolean checkTransitions()
     {
         for (int i = 0, aiBlockingTransitionsSize = aiBlockingTransitions.size(); i < aiBlockingTransitionsSize; i++)
         {
             if (checkTransition(aiBlockingTransitions.get(i)))
             {
-                return;
+                return true;
             }
         }
 
@@ -85,7 +119,7 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         {
             if (checkTransition(eventTransitions.get(i)))
             {
-                return;
+                return true;
             }
         }
 
@@ -93,7 +127,7 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         {
             if (checkTransition(stateBlockingTransitions.get(i)))
             {
-                return;
+                return true;
             }
         }
 
@@ -101,9 +135,74 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
         {
             if (checkTransition(currentStateTransitions.get(i)))
             {
-                return;
+                return true;
             }
         }
+        return false;
+    }
+
+    /**
+     * Count down the skipped ticks on all transitions which would have been visited in the skipped ticks.
+     */
+    private void applySkippedTicks()
+    {
+        if (skippedTicks == 0)
+        {
+            return;
+        }
+
+        countdown(aiBlockingTransitions, skippedTicks);
+        countdown(eventTransitions, skippedTicks);
+        countdown(stateBlockingTransitions, skippedTicks);
+        if (currentStateTransitions != null)
+        {
+            countdown(currentStateTransitions, skippedTicks);
+        }
+        skippedTicks = 0;
+    }
+
+    /**
+     * Count down a list of transitions.
+     *
+     * @param transitions the transitions.
+     * @param ticks       the ticks to count down.
+     */
+    private static <S extends IState> void countdown(final List<ITickingTransition<S>> transitions, final int ticks)
+    {
+        for (int i = 0, size = transitions.size(); i < size; i++)
+        {
+            transitions.get(i).countdownTicksToUpdate(ticks);
+        }
+    }
+
+    /**
+     * Make the next tick visit all transitions again, needed whenever the transitions or their delays change from outside a tick.
+     */
+    private void invalidateNextDue()
+    {
+        applySkippedTicks();
+        ticksToNextDue = 0;
+    }
+
+    @Override
+    public void addTransition(final ITickingTransition<S> transition)
+    {
+        invalidateNextDue();
+        super.addTransition(transition);
+    }
+
+    @Override
+    public void removeTransition(final ITickingTransition<S> transition)
+    {
+        invalidateNextDue();
+        super.removeTransition(transition);
+    }
+
+    @Override
+    public void reset()
+    {
+        invalidateNextDue();
+        super.reset();
     }
 
     /**
@@ -116,14 +215,23 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     public boolean checkTransition(@NotNull final ITickingTransition<S> transition)
     {
         // Check if the target should be run this Tick
-        if (transition.countdownTicksToUpdate(tickRate) > 0)
+        final int ticksToUpdate = transition.countdownTicksToUpdate(tickRate);
+        if (ticksToUpdate > 0)
         {
+            ticksToNextDue = Math.min(ticksToNextDue, ticksToUpdate);
             return false;
         }
 
         transition.setTicksToUpdate((int) (transition.getTickRate() / slownessFactor));
         executedTransition = transition;
-        return super.checkTransition(transition);
+        if (super.checkTransition(transition))
+        {
+            return true;
+        }
+
+        // read back, the transition may have changed its delay while running
+        ticksToNextDue = Math.min(ticksToNextDue, transition.countdownTicksToUpdate(0));
+        return false;
     }
 
     @Override
@@ -135,12 +243,14 @@ public class TickRateStateMachine<S extends IState> extends BasicStateMachine<IT
     @Override
     public void setTickRate(final int tickRate)
     {
+        invalidateNextDue();
         this.tickRate = tickRate;
     }
 
     @Override
     public void setCurrentDelay(final int ticksToNext)
     {
+        invalidateNextDue();
         executedTransition.setTicksToUpdate(ticksToNext);
     }
 }
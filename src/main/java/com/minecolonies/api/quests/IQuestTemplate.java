@@ -19,6 +19,16 @@ public interface IQuestTemplate
      */
     IQuestInstance attemptStart(final IColony colony);
 
+    /**
+     * Check if all triggers of the quest only depend on the quest reputation, the unlocked quests and the world difficulty,
+     * so a failed start does not have to be attempted again until one of them changed.
+     * @return true if so.
+     */
+    default boolean dependsOnQuestInputsOnly()
+    {
+        return false;
+    }
+
     /**
      * Timeout in ingame days until an available quest or in progress quest gets deleted.
      * @return the timeout.
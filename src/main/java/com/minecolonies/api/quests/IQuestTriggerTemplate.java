@@ -31,6 +31,16 @@ public interface IQuestTriggerTemplate
         return canTriggerQuest(colony);
     }
 
+    /**
+     * Check if the result of the trigger only changes with the quest reputation, the unlocked quests or the world difficulty of the colony.
+     * A failed check of such triggers is not repeated until one of them changed.
+     * @return true if so.
+     */
+    default boolean dependsOnQuestInputsOnly()
+    {
+        return false;
+    }
+
     /**
      * Match a nbt tag and a json element tag.
      * @param nbtTag the nbt tag to check.
@@ -27,6 +27,15 @@ public interface IResearchEffectManager
      */
      double getEffectStrength(final ResourceLocation id);
 
+    /**
+     * Get the research effect strength for the effect interned at a given slot, or zero, if no matching effect is present.
+     * Meant for call sites which check the same effect often and keep the slot from {@link ResearchEffectSlots#intern(ResourceLocation)}.
+     *
+     * @param slot the slot of the effect.
+     * @return the strength of the effect, or zero if it isn't present.
+     */
+    double getEffectStrength(final int slot);
+
     /**
      * Apply the effect to the research effects class.
      *
@@ -0,0 +1,67 @@
+package com.minecolonies.api.research.effects;
+
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Interns research effect ids into dense integer slots, so effect strengths can be stored in and read from plain arrays.
+ * Slots are never released, the same id keeps its slot for the whole session.
+ */
+public final class ResearchEffectSlots
+{
+    /**
+     * Marker for an id which has no slot.
+     */
+    public static final int NO_SLOT = -1;
+
+    /**
+     * The slot of each interned id.
+     */
+    private static final Map<ResourceLocation, Integer> SLOTS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ResearchEffectSlots()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the slot of an effect id, assigning a new one if the id is not known yet.
+     * Call sites which check an effect often should keep the returned slot.
+     *
+     * @param id the id of the effect.
+     * @return the slot.
+     */
+    public static int intern(@NotNull final ResourceLocation id)
+    {
+        final Integer slot = SLOTS.get(id);
+        if (slot != null)
+        {
+            return slot;
+        }
+
+        synchronized (SLOTS)
+        {
+            return SLOTS.computeIfAbsent(id, key -> SLOTS.size());
+        }
+    }
+
+    /**
+     * Get the slot of an effect id without assigning one.
+     *
+     * @param id the id of the effect.
+     * @return the slot or {@link #NO_SLOT} if the id was never interned.
+     */
+    public static int getSlot(@NotNull final ResourceLocation id)
+    {
+        final Integer slot = SLOTS.get(id);
+        return slot == null ? NO_SLOT : slot;
+    }
+}
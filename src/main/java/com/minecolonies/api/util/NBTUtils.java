@@ -1,10 +1,17 @@
 package com.minecolonies.api.util;
 
+import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.stream.Collector;
@@ -12,6 +19,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_LIST;
+import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_TOKENS_PACKED;
+
 public class NBTUtils
 {
 
@@ -37,6 +47,54 @@ public class NBTUtils
           });
     }
 
+    /**
+     * Write a collection of tokens to a compound.
+     * Standard tokens are packed into one long array of their id bits, other tokens fall back to a list of serialized tokens.
+     *
+     * @param compound the compound to write to.
+     * @param tokens   the tokens to write.
+     */
+    public static void writeTokens(final CompoundTag compound, final Collection<IToken<?>> tokens)
+    {
+        final long[] packed = new long[tokens.size() * 2];
+        int index = 0;
+        for (final IToken<?> token : tokens)
+        {
+            if (!(token instanceof StandardToken standardToken))
+            {
+                compound.put(TAG_LIST, tokens.stream().map(StandardFactoryController.getInstance()::serialize).collect(toListNBT()));
+                return;
+            }
+
+            packed[index++] = standardToken.getIdentifier().getMostSignificantBits();
+            packed[index++] = standardToken.getIdentifier().getLeastSignificantBits();
+        }
+        compound.putLongArray(TAG_TOKENS_PACKED, packed);
+    }
+
+    /**
+     * Read a collection of tokens written by {@link #writeTokens(CompoundTag, Collection)}, or in the old list format.
+     *
+     * @param compound the compound to read from.
+     * @return the tokens.
+     */
+    public static List<IToken<?>> readTokens(final CompoundTag compound)
+    {
+        final List<IToken<?>> tokens = new ArrayList<>();
+        if (compound.contains(TAG_TOKENS_PACKED))
+        {
+            final long[] packed = compound.getLongArray(TAG_TOKENS_PACKED);
+            for (int i = 0; i + 1 < packed.length; i += 2)
+            {
+                tokens.add(new StandardToken(new UUID(packed[i], packed[i + 1])));
+            }
+            return tokens;
+        }
+
+        streamCompound(compound.getList(TAG_LIST, Tag.TAG_COMPOUND)).forEach(tokenCompound -> tokens.add((IToken<?>) StandardFactoryController.getInstance().deserialize(tokenCompound)));
+        return tokens;
+    }
+
     private static class TagListIterator implements Iterator<Tag>
     {
 
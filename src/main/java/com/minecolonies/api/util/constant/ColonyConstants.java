@@ -62,6 +62,22 @@ public final class ColonyConstants
      * How often the colony updates day/nighttime in ticks.
      */
     public static final int UPDATE_DAYTIME_INTERVAL = 20;
+    /**
+     * How often the colony travel time cache gets updated in ticks.
+     */
+    public static final int UPDATE_TRAVEL_TIMES_INTERVAL = 40;
+    /**
+     * How often the colony moves tracked dropped items between chunks in ticks.
+     */
+    public static final int UPDATE_DROPPED_ITEMS_INTERVAL = 20;
+    /**
+     * How often the colony prepares a raid spawn point candidate when a raid is planned, in ticks.
+     */
+    public static final int UPDATE_RAID_SPAWN_INTERVAL = 1200;
+    /**
+     * How often the colony spawns the queued raiders of its raids, in ticks.
+     */
+    public static final int UPDATE_RAIDER_SPAWNING_INTERVAL = 5;
 
     /**
      * Max amount of permission/colony events to store in the colony.
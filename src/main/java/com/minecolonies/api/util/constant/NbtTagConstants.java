@@ -214,6 +214,8 @@ public final class NbtTagConstants
 
     public static final String TAG_TOKEN = "Token";
 
+    public static final String TAG_TOKENS_PACKED = "TokensPacked";
+
     /**
      * Tags used to store the building corners to nbt and retrieve them.
      */
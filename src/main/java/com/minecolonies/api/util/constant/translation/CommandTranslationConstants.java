@@ -44,6 +44,8 @@ public class CommandTranslationConstants
     @NonNls
     public static final String COMMAND_CITIZEN_INFO_NO_ACTIVITY              = "com.minecolonies.command.citizeninfo.noactivity";
     @NonNls
+    public static final String COMMAND_CITIZEN_INFO_AI_LOD                   = "com.minecolonies.command.citizeninfo.ailod";
+    @NonNls
     public static final String COMMAND_CITIZEN_KILL_SUCCESS                  = "com.minecolonies.command.citizenkill.success";
     @NonNls
     public static final String COMMAND_CITIZEN_LIST_PAGE_TOP                 = "com.minecolonies.command.citizenlist.pagetop";
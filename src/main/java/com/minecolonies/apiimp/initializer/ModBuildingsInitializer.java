@@ -245,6 +245,7 @@ public final class ModBuildingsInitializer
           .addBuildingModuleProducer(FORESTER_CRAFT)
           .addBuildingModuleProducer(FORESTER_SETTINGS)
           .addBuildingModuleProducer(FORESTER_TOOL)
+          .addBuildingModuleProducer(FORESTER_MAP)
           .addBuildingModuleProducer(ITEMLIST_SAPLING)
           .addBuildingModuleProducer(CRAFT_TASK_VIEW)
           .addBuildingModuleProducer(MIN_STOCK)
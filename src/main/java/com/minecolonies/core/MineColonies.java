@@ -27,6 +27,7 @@ import com.minecolonies.apiimp.initializer.*;
 import com.minecolonies.core.colony.IColonyManagerCapability;
 import com.minecolonies.core.colony.requestsystem.init.RequestSystemInitializer;
 import com.minecolonies.core.colony.requestsystem.init.StandardFactoryControllerInitializer;
+import com.minecolonies.core.entity.ai.workers.util.Tree;
 import com.minecolonies.core.entity.mobs.EntityMercenary;
 import com.minecolonies.core.event.*;
 import com.minecolonies.core.loot.SupplyLoot;
@@ -112,7 +113,10 @@ public class MineColonies
         LanguageHandler.loadLangPath("assets/minecolonies/lang/%s.json"); // hotfix config comments, it's ugly bcs it's gonna be replaced
         config = new Configuration();
 
-        Consumer<TagsUpdatedEvent> onTagsLoaded = (event) -> ModTags.tagsLoaded = true;
+        Consumer<TagsUpdatedEvent> onTagsLoaded = (event) -> {
+            ModTags.tagsLoaded = true;
+            Tree.clearBlockTypeCache();
+        };
         MinecraftForge.EVENT_BUS.addListener(onTagsLoaded);
 
         Mod.EventBusSubscriber.Bus.FORGE.bus().get().register(EventHandler.class);
@@ -1,21 +1,25 @@
 package com.minecolonies.core.client.render;
 
+import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.client.render.modeltype.CitizenModel;
 import com.minecolonies.api.client.render.modeltype.IModelType;
 import com.minecolonies.api.client.render.modeltype.ModModelTypes;
 import com.minecolonies.api.client.render.modeltype.registry.IModelTypeRegistry;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.apiimp.initializer.ModModelTypeInitializer;
+import com.minecolonies.core.client.render.worldevent.InteractionIconRenderer;
 import com.minecolonies.core.client.render.worldevent.RenderTypes;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.model.HumanoidModel;
 import net.minecraft.client.model.geom.ModelLayers;
 import net.minecraft.client.renderer.MultiBufferSource;
 import net.minecraft.client.renderer.entity.EntityRendererProvider;
 import net.minecraft.client.renderer.entity.MobRenderer;
 import net.minecraft.client.renderer.entity.layers.ItemInHandLayer;
+import net.minecraft.client.renderer.entity.layers.RenderLayer;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.InteractionHand;
@@ -30,6 +34,11 @@ public class RenderBipedCitizen extends MobRenderer<AbstractEntityCitizen, Citiz
     private static final double  SHADOW_SIZE   = 0.5F;
     public static        boolean isItGhostTime = false;
 
+    /**
+     * If the citizen currently rendered is beyond the detail range, its armor and held items are skipped.
+     */
+    private boolean lowDetail = false;
+
     /**
      * Renders model, see {@link MobRenderer}.
      *
@@ -38,8 +47,8 @@ public class RenderBipedCitizen extends MobRenderer<AbstractEntityCitizen, Citiz
     public RenderBipedCitizen(final EntityRendererProvider.Context context)
     {
         super(context, new CitizenModel<>(context.bakeLayer(ModelLayers.PLAYER)), (float) SHADOW_SIZE);
-        this.addLayer(new CitizenArmorLayer(this, new HumanoidModel<>(context.bakeLayer(ModelLayers.PLAYER_INNER_ARMOR)), new HumanoidModel<>(context.bakeLayer(ModelLayers.PLAYER_OUTER_ARMOR)), context.getModelManager(), context.getModelSet()));
-        super.addLayer(new ItemInHandLayer<>(this, context.getItemInHandRenderer()));
+        this.addLayer(new DetailLayer(new CitizenArmorLayer(this, new HumanoidModel<>(context.bakeLayer(ModelLayers.PLAYER_INNER_ARMOR)), new HumanoidModel<>(context.bakeLayer(ModelLayers.PLAYER_OUTER_ARMOR)), context.getModelManager(), context.getModelSet())));
+        super.addLayer(new DetailLayer(new ItemInHandLayer<>(this, context.getItemInHandRenderer())));
         ModModelTypeInitializer.init(context);
     }
 
@@ -55,6 +64,9 @@ public class RenderBipedCitizen extends MobRenderer<AbstractEntityCitizen, Citiz
 
         setupMainModelFrom(citizen);
 
+        final int lodRange = MinecoloniesAPIProxy.getInstance().getConfig().getClient().citizenlodrange.get();
+        lowDetail = lodRange > 0 && entityRenderDispatcher.distanceToSqr(citizen) > (double) lodRange * lodRange;
+
         final CitizenModel<AbstractEntityCitizen> citizenModel = model;
 
         citizenModel.rightArmPose = RenderUtils.getArmPose(citizen, InteractionHand.MAIN_HAND);
@@ -121,17 +133,58 @@ public class RenderBipedCitizen extends MobRenderer<AbstractEntityCitizen, Citiz
 
                 final Matrix4f pose = matrixStack.last().pose();
 
-                VertexConsumer r = buffer.getBuffer(RenderTypes.worldEntityIcon(entityIn.getCitizenDataView().getInteractionIcon()));
-                r.vertex(pose, -5, 0, 0).uv(0, 0).endVertex();
-                r.vertex(pose, -5, 10, 0).uv(0, 1).endVertex();
-                r.vertex(pose, 5, 10, 0).uv(1, 1).endVertex();
-                r.vertex(pose, 5, 0, 0).uv(1, 0).endVertex();
+                if (InteractionIconRenderer.canQueue() && buffer == Minecraft.getInstance().renderBuffers().bufferSource())
+                {
+                    // regular world rendering, draw it with the icons of all other citizens
+                    InteractionIconRenderer.queue(entityIn.getCitizenDataView().getInteractionIcon(), pose);
+                }
+                else
+                {
+                    VertexConsumer r = buffer.getBuffer(RenderTypes.worldEntityIcon(entityIn.getCitizenDataView().getInteractionIcon()));
+                    r.vertex(pose, -5, 0, 0).uv(0, 0).endVertex();
+                    r.vertex(pose, -5, 10, 0).uv(0, 1).endVertex();
+                    r.vertex(pose, 5, 10, 0).uv(1, 1).endVertex();
+                    r.vertex(pose, 5, 0, 0).uv(1, 0).endVertex();
+                }
 
                 matrixStack.popPose();
             }
         }
     }
 
+    /**
+     * Layer which is only rendered for citizens within the detail range.
+     */
+    private class DetailLayer extends RenderLayer<AbstractEntityCitizen, CitizenModel<AbstractEntityCitizen>>
+    {
+        private final RenderLayer<AbstractEntityCitizen, CitizenModel<AbstractEntityCitizen>> layer;
+
+        private DetailLayer(final RenderLayer<AbstractEntityCitizen, CitizenModel<AbstractEntityCitizen>> layer)
+        {
+            super(RenderBipedCitizen.this);
+            this.layer = layer;
+        }
+
+        @Override
+        public void render(
+          @NotNull final PoseStack matrixStack,
+          @NotNull final MultiBufferSource buffer,
+          final int light,
+          @NotNull final AbstractEntityCitizen citizen,
+          final float limbSwing,
+          final float limbSwingAmount,
+          final float partialTicks,
+          final float ageInTicks,
+          final float netHeadYaw,
+          final float headPitch)
+        {
+            if (!lowDetail)
+            {
+                layer.render(matrixStack, buffer, light, citizen, limbSwing, limbSwingAmount, partialTicks, ageInTicks, netHeadYaw, headPitch);
+            }
+        }
+    }
+
     @NotNull
     @Override
     public ResourceLocation getTextureLocation(final AbstractEntityCitizen entity)
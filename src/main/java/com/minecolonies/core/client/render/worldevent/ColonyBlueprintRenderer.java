@@ -22,7 +22,14 @@ import com.minecolonies.core.tileentities.TileEntityColonyBuilding;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.MathUtils;
 import com.minecolonies.core.colony.workorders.view.WorkOrderBuildingView;
+import com.mojang.blaze3d.systems.RenderSystem;
+import com.mojang.blaze3d.vertex.BufferBuilder;
+import com.mojang.blaze3d.vertex.PoseStack;
+import com.mojang.blaze3d.vertex.Tesselator;
+import com.mojang.blaze3d.vertex.VertexBuffer;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.culling.Frustum;
 import net.minecraft.core.BlockPos;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
@@ -64,6 +71,16 @@ public class ColonyBlueprintRenderer
      */
     private static Map<BlockPos, BoxRenderData> boxRenderCache = new HashMap<>();
 
+    /**
+     * The baked building boxes, by the same position as {@link #boxRenderCache}.
+     */
+    private static final Map<BlockPos, BoxMesh> boxMeshCache = new HashMap<>();
+
+    /**
+     * Reused list of the blueprint positions within the view frustum.
+     */
+    private static final List<BlockPos> visiblePositions = new ArrayList<>();
+
     /**
      * The cache of blueprint data.
      */
@@ -129,9 +146,7 @@ public class ColonyBlueprintRenderer
 
         if (!ctx.hasNearestColony())
         {
-            blueprintRenderCache.clear();
-            boxRenderCache.clear();
-            lastCacheRebuild = null;
+            clearCaches();
             return;
         }
 
@@ -146,9 +161,7 @@ public class ColonyBlueprintRenderer
 
         if (activeRules.isEmpty())
         {
-            blueprintRenderCache.clear();
-            boxRenderCache.clear();
-            lastCacheRebuild = null;
+            clearCaches();
             return;
         }
 
@@ -157,20 +170,37 @@ public class ColonyBlueprintRenderer
         {
             rebuildCache(ctx, activeRules);
             lastCacheRebuild = activePosition;
+            updateBoxMeshes();
         }
 
-        if (Minecraft.getInstance().level.getGameTime() % 20 == 0)
+        if (Minecraft.getInstance().level.getGameTime() % 20 == 0 && processPendingBlueprints())
         {
-            processPendingBlueprints();
+            updateBoxMeshes();
         }
 
         if (shouldRenderBlueprints)
         {
+            // Structurize keeps the baked blueprint per preview data, so only pass the positions which are in view.
+            final Frustum frustum = ctx.stageEvent.getFrustum();
             for (final Map.Entry<BlueprintCacheKey, List<BlockPos>> entry : blueprintRenderCache.entrySet())
             {
-                final BlueprintPreviewData data = blueprintDataCache.getUnchecked(entry.getKey());
-            BlueprintHandler.getInstance().drawAtListOfPositions(data, entry.getValue(), ctx.stageEvent);
+                visiblePositions.clear();
+                for (final BlockPos pos : entry.getValue())
+                {
+                    final BoxMesh mesh = boxMeshCache.get(pos);
+                    if (frustum == null || mesh == null || frustum.isVisible(mesh.bounds()))
+                    {
+                        visiblePositions.add(pos);
+                    }
+                }
+
+                if (!visiblePositions.isEmpty())
+                {
+                    final BlueprintPreviewData data = blueprintDataCache.getUnchecked(entry.getKey());
+                    BlueprintHandler.getInstance().drawAtListOfPositions(data, visiblePositions, ctx.stageEvent);
+                }
             }
+            visiblePositions.clear();
         }
     }
 
@@ -181,17 +211,12 @@ public class ColonyBlueprintRenderer
      */
     static void renderBoxes(final WorldEventContext ctx)
     {
+        renderBoxMeshes(ctx);
+
         for (final Map.Entry<BlockPos, BoxRenderData> entry : boxRenderCache.entrySet())
         {
             final BoxRenderData buildingData = entry.getValue();
 
-            if (buildingData.box().getPos1() != INVALID_POS)
-            {
-                ColonyWorldRenderMacros.renderLineBox(ctx.poseStack, ctx.bufferSource,
-                        new AABB(buildingData.box().getPos1(), buildingData.box().getPos2().offset(1, 1, 1)),
-                        0.08f, 0xFF0000FF, false);
-            }
-
             buildingData.box().getAnchor().ifPresent(pos ->
             {
                 if (ctx.clientPlayer.isShiftKeyDown())
@@ -219,6 +244,122 @@ public class ColonyBlueprintRenderer
         ColonyWorldRenderMacros.endRenderLineBox(ctx.bufferSource);
     }
 
+    /**
+     * Draws the baked building boxes which are within the view frustum.
+     *
+     * @param ctx rendering context
+     */
+    private static void renderBoxMeshes(final WorldEventContext ctx)
+    {
+        if (boxMeshCache.isEmpty())
+        {
+            return;
+        }
+
+        final Frustum frustum = ctx.stageEvent.getFrustum();
+        RenderTypes.LINES_OUTSIDE_BLOCKS.setupRenderState();
+        for (final BoxMesh mesh : boxMeshCache.values())
+        {
+            if (frustum != null && !frustum.isVisible(mesh.bounds()))
+            {
+                continue;
+            }
+
+            ctx.poseStack.pushPose();
+            ctx.poseStack.translate(mesh.origin().getX(), mesh.origin().getY(), mesh.origin().getZ());
+            ColonyWorldRenderMacros.pushShaderMVstack(ctx.poseStack);
+            mesh.buffer().bind();
+            mesh.buffer().drawWithShader(RenderSystem.getModelViewMatrix(), RenderSystem.getProjectionMatrix(), GameRenderer.getPositionColorShader());
+            ColonyWorldRenderMacros.popShaderMVstack();
+            ctx.poseStack.popPose();
+        }
+        VertexBuffer.unbind();
+        RenderTypes.LINES_OUTSIDE_BLOCKS.clearRenderState();
+    }
+
+    /**
+     * Bakes the boxes of {@link #boxRenderCache} which have no up to date mesh yet, and drops the meshes of boxes which are gone.
+     * Unchanged boxes keep their mesh, so moving around only bakes the boxes which came into range.
+     */
+    private static void updateBoxMeshes()
+    {
+        final Iterator<Map.Entry<BlockPos, BoxMesh>> iterator = boxMeshCache.entrySet().iterator();
+        while (iterator.hasNext())
+        {
+            final Map.Entry<BlockPos, BoxMesh> entry = iterator.next();
+            final BoxRenderData data = boxRenderCache.get(entry.getKey());
+            if (data == null || data.box() == null || !entry.getValue().matches(data.box()))
+            {
+                entry.getValue().buffer().close();
+                iterator.remove();
+            }
+        }
+
+        for (final Map.Entry<BlockPos, BoxRenderData> entry : boxRenderCache.entrySet())
+        {
+            final BoxPreviewData box = entry.getValue().box();
+            if (box == null || box.getPos1() == INVALID_POS || boxMeshCache.containsKey(entry.getKey()))
+            {
+                continue;
+            }
+
+            final BoxMesh mesh = bakeBox(box);
+            if (mesh != null)
+            {
+                boxMeshCache.put(entry.getKey(), mesh);
+            }
+        }
+    }
+
+    /**
+     * Bakes a building box into a vertex buffer, relative to the min corner of the box to keep the float vertices precise.
+     *
+     * @param box the box.
+     * @return the mesh or null if nothing was drawn.
+     */
+    private static @Nullable BoxMesh bakeBox(@NotNull final BoxPreviewData box)
+    {
+        final BlockPos origin = box.getPos1();
+        final BlockPos end = box.getPos2().offset(1, 1, 1);
+
+        final BufferBuilder bufferbuilder = Tesselator.getInstance().getBuilder();
+        bufferbuilder.begin(RenderTypes.LINES_OUTSIDE_BLOCKS.mode(), RenderTypes.LINES_OUTSIDE_BLOCKS.format());
+        ColonyWorldRenderMacros.renderLineBox(new PoseStack(), bufferbuilder, new AABB(BlockPos.ZERO, end.subtract(origin)), 0.08f, 0xFF0000FF);
+
+        final BufferBuilder.RenderedBuffer renderedBuffer = bufferbuilder.endOrDiscardIfEmpty();
+        if (renderedBuffer == null)
+        {
+            return null;
+        }
+
+        final VertexBuffer vertexBuffer = new VertexBuffer(VertexBuffer.Usage.STATIC);
+        vertexBuffer.bind();
+        vertexBuffer.upload(renderedBuffer);
+        VertexBuffer.unbind();
+        return new BoxMesh(origin, box.getPos2(), new AABB(origin, end).inflate(0.08f), vertexBuffer);
+    }
+
+    /**
+     * Drops all cached blueprints and boxes.
+     */
+    private static void clearCaches()
+    {
+        blueprintRenderCache.clear();
+        boxRenderCache.clear();
+        boxMeshCache.values().forEach(mesh -> mesh.buffer().close());
+        boxMeshCache.clear();
+        lastCacheRebuild = null;
+    }
+
+    /**
+     * Cleanup on logout.
+     */
+    public static void cleanup()
+    {
+        clearCaches();
+        pendingBoxes.clear();
+    }
+
     private static void rebuildCache(final WorldEventContext ctx, final List<IRenderBlueprintRule> rules)
     {
         Collections.reverse(rules);   // so the first rule "wins"
@@ -292,8 +433,14 @@ public class ColonyBlueprintRenderer
         }
     }
 
-    private static void processPendingBlueprints()
+    /**
+     * Try to load the boxes of the blueprints which were still loading.
+     *
+     * @return true if a box was added.
+     */
+    private static boolean processPendingBlueprints()
     {
+        boolean added = false;
         final Iterator<Map.Entry<BlockPos, PendingRenderData>> iterator = pendingBoxes.entrySet().iterator();
         while (iterator.hasNext())
         {
@@ -304,10 +451,12 @@ public class ColonyBlueprintRenderer
                 if (box.box() != null || box.builder() != 0)
                 {
                     boxRenderCache.put(entry.getKey(), box);
+                    added = true;
                 }
                 iterator.remove();
             }
         }
+        return added;
     }
 
     private static @NotNull BlueprintPreviewData makeBlueprintPreview(@NotNull final BlueprintCacheKey key)
@@ -352,6 +501,20 @@ public class ColonyBlueprintRenderer
     {
     }
 
+    /**
+     * Holds a baked building box.
+     */
+    private record BoxMesh(@NotNull BlockPos origin, @NotNull BlockPos end, @NotNull AABB bounds, @NotNull VertexBuffer buffer)
+    {
+        /**
+         * Check if the mesh was baked from the given box.
+         */
+        private boolean matches(@NotNull final BoxPreviewData box)
+        {
+            return origin.equals(box.getPos1()) && end.equals(box.getPos2());
+        }
+    }
+
     /**
      * Cache key for {@link #blueprintDataCache}.
      */
@@ -3,27 +3,36 @@ package com.minecolonies.core.client.render.worldevent;
 import com.ldtteam.structurize.items.ModItems;
 import com.ldtteam.structurize.util.WorldRenderMacros;
 import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.colony.IColonyTagCapability;
 import com.minecolonies.api.colony.IColonyView;
-import com.minecolonies.core.MineColonies;
-import com.minecolonies.core.util.MutableChunkPos;
 import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.BufferBuilder;
-import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.Tesselator;
 import com.mojang.blaze3d.vertex.VertexBuffer;
+import it.unimi.dsi.fastutil.longs.Long2ByteOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.ChatFormatting;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.screens.Screen;
 import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.core.SectionPos;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
 
 import java.awt.*;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.function.LongToIntFunction;
 
 import static com.minecolonies.api.colony.IColony.CLOSE_COLONY_CAP;
 
+/**
+ * Renders the colony and chunk ticket borders. The owner of every chunk around the player and which of its edges are borders are cached per chunk, so crossing a chunk
+ * only reads the chunks which came into range, and a claim update only recalculates the updated chunk and its neighbours.
+ */
 public class ColonyBorderRenderer
 {
     private static final int RENDER_DIST_THRESHOLD = 3;
@@ -31,11 +40,54 @@ public class ColonyBorderRenderer
     private static final int CHUNK_HEIGHT = 256;
     private static final int PLAYER_CHUNK_STEP = CHUNK_SIZE / 4;
 
+    /**
+     * Edge flags of a chunk, set when the neighbour on that side belongs to another colony.
+     */
+    private static final byte NORTH = 1;
+    private static final byte SOUTH = 2;
+    private static final byte EAST  = 4;
+    private static final byte WEST  = 8;
+
+    /**
+     * Id of chunks which are not cached, e.g. because they are not loaded.
+     */
+    private static final int UNKNOWN_CHUNK = -1;
+
     private static VertexBuffer colonies           = null;
     private static VertexBuffer chunktickets       = null;
     private static ChunkPos                     lastPlayerChunkPos = null;
     private static IColonyView lastColony = null;
 
+    /**
+     * The ticketed chunks of the colony the ticket edges were calculated for.
+     */
+    private static Set<Long> lastTicketedChunks = null;
+
+    /**
+     * The owning colony of each loaded chunk around the player.
+     */
+    private static final Long2IntOpenHashMap chunkOwners = new Long2IntOpenHashMap();
+
+    /**
+     * The colony border edges of each chunk.
+     */
+    private static final Long2ByteOpenHashMap colonyEdges = new Long2ByteOpenHashMap();
+
+    /**
+     * The chunk ticket border edges of each chunk.
+     */
+    private static final Long2ByteOpenHashMap ticketEdges = new Long2ByteOpenHashMap();
+
+    /**
+     * Chunks whose claim data got updated since the last render.
+     */
+    private static final LongOpenHashSet updatedChunks = new LongOpenHashSet();
+
+    static
+    {
+        chunkOwners.defaultReturnValue(UNKNOWN_CHUNK);
+    }
+
     static void render(final WorldEventContext ctx)
     {
         if (ctx.mainHandItem.getItem() != ModItems.buildTool.get() || !ctx.hasNearestColony())
@@ -44,38 +96,51 @@ public class ColonyBorderRenderer
         }
 
         final ChunkPos playerChunkPos = new ChunkPos(ctx.clientPlayer.blockPosition());
+        final int playerRenderDist = Math.max(ctx.clientRenderDist - RENDER_DIST_THRESHOLD, 2);
+        boolean changed = false;
 
-        if (lastColony != ctx.nearestColony || !lastPlayerChunkPos.equals(playerChunkPos))
+        if (lastColony != ctx.nearestColony)
         {
             lastColony = ctx.nearestColony;
-            lastPlayerChunkPos = playerChunkPos;
+            lastTicketedChunks = null;
+            chunkOwners.clear();
+            colonyEdges.clear();
+            changed = true;
+        }
 
-            final Map<ChunkPos, Integer> coloniesMap = new HashMap<>();
-            final Map<ChunkPos, Integer> chunkticketsMap = new HashMap<>();
-            final BufferBuilder bufferbuilder = Tesselator.getInstance().getBuilder();
-            final int nearestColonyId = ctx.nearestColony.getID();
-            final int playerRenderDist = Math.max(ctx.clientRenderDist - RENDER_DIST_THRESHOLD, 2);
-            final int range = Math.max(ctx.clientRenderDist, MineColonies.getConfig().getServer().maxColonySize.get());
+        if (lastTicketedChunks != ctx.nearestColony.getTicketedChunks())
+        {
+            lastTicketedChunks = ctx.nearestColony.getTicketedChunks();
+            ticketEdges.clear();
+            changed = true;
+        }
 
-            for (int chunkX = -range; chunkX <= range; chunkX++)
-            {
-                for (int chunkZ = -range; chunkZ <= range; chunkZ++)
-                {
-                    final LevelChunk chunk = ctx.clientLevel.getChunk(playerChunkPos.x + chunkX, playerChunkPos.z + chunkZ);
-                    if (chunk.isEmpty()) { continue; }
-                    final ChunkPos chunkPos = chunk.getPos();
+        if (!playerChunkPos.equals(lastPlayerChunkPos))
+        {
+            lastPlayerChunkPos = playerChunkPos;
+            evictOutOfRange(playerChunkPos, playerRenderDist + 1);
+            changed = true;
+        }
 
-                    chunk.getCapability(CLOSE_COLONY_CAP, null).ifPresent(cap -> coloniesMap.put(chunkPos, cap.getOwningColony()));
-                    if (ctx.nearestColony.getTicketedChunks().contains(chunkPos.toLong()))
-                    {
-                        chunkticketsMap.put(chunkPos, nearestColonyId);
-                    }
-                    else
-                    {
-                        chunkticketsMap.put(chunkPos, 0);
-                    }
-                }
+        if (!updatedChunks.isEmpty())
+        {
+            for (final long chunk : updatedChunks)
+            {
+                chunkOwners.remove(chunk);
+                invalidateEdges(chunk);
             }
+            updatedChunks.clear();
+            changed = true;
+        }
+
+        if (changed)
+        {
+            // neighbours one chunk past the rendered area decide its outer edges
+            readChunkOwners(ctx, playerChunkPos, playerRenderDist + 1);
+
+            final BufferBuilder bufferbuilder = Tesselator.getInstance().getBuilder();
+            final int nearestColonyId = ctx.nearestColony.getID();
+            final LongToIntFunction ticketIds = chunk -> chunkOwners.containsKey(chunk) ? (lastTicketedChunks.contains(chunk) ? nearestColonyId : 0) : UNKNOWN_CHUNK;
 
             if (colonies != null)
             {
@@ -85,8 +150,8 @@ public class ColonyBorderRenderer
             {
                 chunktickets.close();
             }
-            colonies = draw(bufferbuilder, coloniesMap, nearestColonyId, playerChunkPos, playerRenderDist);
-            chunktickets = draw(bufferbuilder, chunkticketsMap, nearestColonyId, playerChunkPos, playerRenderDist);
+            colonies = draw(bufferbuilder, chunkOwners::get, colonyEdges, nearestColonyId, playerChunkPos, playerRenderDist);
+            chunktickets = draw(bufferbuilder, ticketIds, ticketEdges, nearestColonyId, playerChunkPos, playerRenderDist);
             bufferbuilder.unsetDefaultColor();
         }
 
@@ -96,211 +161,298 @@ public class ColonyBorderRenderer
             return;
         }
 
-        pushShaderMVstack(ctx.poseStack);
+        ColonyWorldRenderMacros.pushShaderMVstack(ctx.poseStack);
         WorldRenderMacros.LINES.setupRenderState();
         p.bind();
         p.drawWithShader(RenderSystem.getModelViewMatrix(), RenderSystem.getProjectionMatrix(), GameRenderer.getPositionColorShader());
         VertexBuffer.unbind();
         WorldRenderMacros.LINES.clearRenderState();
-        popShaderMVstack();
+        ColonyWorldRenderMacros.popShaderMVstack();
     }
 
+    /**
+     * Mark the claim data of a chunk as updated, so its borders are recalculated on the next render.
+     *
+     * @param chunkPos the chunk.
+     */
+    public static void onChunkUpdated(final ChunkPos chunkPos)
+    {
+        updatedChunks.add(chunkPos.toLong());
+    }
 
-    private static void pushShaderMVstack(final PoseStack pushWith)
+    /**
+     * Read the owner of every loaded chunk around the player which is not cached yet.
+     *
+     * @param ctx            rendering context
+     * @param playerChunkPos the chunk of the player
+     * @param range          the range in chunks around the player
+     */
+    private static void readChunkOwners(final WorldEventContext ctx, final ChunkPos playerChunkPos, final int range)
+    {
+        for (int chunkX = playerChunkPos.x - range; chunkX <= playerChunkPos.x + range; chunkX++)
+        {
+            for (int chunkZ = playerChunkPos.z - range; chunkZ <= playerChunkPos.z + range; chunkZ++)
+            {
+                final long chunkLong = ChunkPos.asLong(chunkX, chunkZ);
+                if (chunkOwners.containsKey(chunkLong))
+                {
+                    continue;
+                }
+
+                final LevelChunk chunk = ctx.clientLevel.getChunk(chunkX, chunkZ);
+                if (chunk.isEmpty()) { continue; }
+
+                chunkOwners.put(chunkLong, chunk.getCapability(CLOSE_COLONY_CAP, null).map(IColonyTagCapability::getOwningColony).orElse(0).intValue());
+                invalidateEdges(chunkLong);
+            }
+        }
+    }
+
+    /**
+     * Drop the cached edges of a chunk and its neighbours, after the owner of the chunk changed.
+     *
+     * @param chunk the chunk.
+     */
+    private static void invalidateEdges(final long chunk)
+    {
+        final int x = ChunkPos.getX(chunk);
+        final int z = ChunkPos.getZ(chunk);
+        for (final long affected : new long[] {chunk, ChunkPos.asLong(x, z - 1), ChunkPos.asLong(x, z + 1), ChunkPos.asLong(x + 1, z), ChunkPos.asLong(x - 1, z)})
+        {
+            colonyEdges.remove(affected);
+            ticketEdges.remove(affected);
+        }
+    }
+
+    /**
+     * Drop the cached data of the chunks which left the range around the player.
+     *
+     * @param playerChunkPos the chunk of the player
+     * @param range          the range in chunks around the player
+     */
+    private static void evictOutOfRange(final ChunkPos playerChunkPos, final int range)
     {
-        final PoseStack ps = RenderSystem.getModelViewStack();
-        ps.pushPose();
-        ps.last().pose().mul(pushWith.last().pose());
-        ps.last().normal().mul(pushWith.last().normal());
-        RenderSystem.applyModelViewMatrix();
+        final LongPredicate outOfRange = chunk -> Math.abs(ChunkPos.getX(chunk) - playerChunkPos.x) > range || Math.abs(ChunkPos.getZ(chunk) - playerChunkPos.z) > range;
+        chunkOwners.keySet().removeIf(outOfRange);
+        colonyEdges.keySet().removeIf(outOfRange);
+        ticketEdges.keySet().removeIf(outOfRange);
     }
 
-    private static void popShaderMVstack()
+    /**
+     * Get the border edges of a chunk, calculating them if they are not cached.
+     *
+     * @param chunk the chunk.
+     * @param ids   the colony id of each chunk.
+     * @param edges the cached edges.
+     * @return the edge flags.
+     */
+    private static byte getEdges(final long chunk, final LongToIntFunction ids, final Long2ByteOpenHashMap edges)
     {
-        RenderSystem.getModelViewStack().popPose();
-        RenderSystem.applyModelViewMatrix();
+        if (edges.containsKey(chunk))
+        {
+            return edges.get(chunk);
+        }
+
+        final int colonyId = ids.applyAsInt(chunk);
+        final int x = ChunkPos.getX(chunk);
+        final int z = ChunkPos.getZ(chunk);
+        byte result = 0;
+        if (ids.applyAsInt(ChunkPos.asLong(x, z - 1)) != colonyId)
+        {
+            result |= NORTH;
+        }
+        if (ids.applyAsInt(ChunkPos.asLong(x, z + 1)) != colonyId)
+        {
+            result |= SOUTH;
+        }
+        if (ids.applyAsInt(ChunkPos.asLong(x + 1, z)) != colonyId)
+        {
+            result |= EAST;
+        }
+        if (ids.applyAsInt(ChunkPos.asLong(x - 1, z)) != colonyId)
+        {
+            result |= WEST;
+        }
+        edges.put(chunk, result);
+        return result;
     }
 
     private static VertexBuffer draw(final BufferBuilder bufferbuilder,
-        final Map<ChunkPos, Integer> mapToDraw,
+        final LongToIntFunction ids,
+        final Long2ByteOpenHashMap edges,
         final int playerColonyId,
         final ChunkPos playerChunkPos,
         final int playerRenderDist)
     {
-        final MutableChunkPos mutableChunkPos = new MutableChunkPos(0, 0);
         final Map<Integer, Color> colonyColours = new HashMap<>();
         final boolean useColonyColour = IMinecoloniesAPI.getInstance().getConfig().getClient().colonyteamborders.get();
 
         bufferbuilder.begin(WorldRenderMacros.LINES.mode(), WorldRenderMacros.LINES.format());
-        mapToDraw.forEach((chunkPos, colonyId) -> {
-            if (colonyId == 0 || chunkPos.x <= playerChunkPos.x - playerRenderDist || chunkPos.x >= playerChunkPos.x + playerRenderDist
-                || chunkPos.z <= playerChunkPos.z - playerRenderDist || chunkPos.z >= playerChunkPos.z + playerRenderDist)
-            {
-                return;
-            }
-
-            final boolean isPlayerChunkX = colonyId == playerColonyId && chunkPos.x == playerChunkPos.x;
-            final boolean isPlayerChunkZ = colonyId == playerColonyId && chunkPos.z == playerChunkPos.z;
-            final float minX = chunkPos.getMinBlockX();
-            final float maxX = chunkPos.getMaxBlockX() + 1.0f;
-            final float minZ = chunkPos.getMinBlockZ();
-            final float maxZ = chunkPos.getMaxBlockZ() + 1.0f;
-            final int testedColonyId = colonyId;
-
-            if (useColonyColour)
+        for (int chunkX = playerChunkPos.x - playerRenderDist + 1; chunkX < playerChunkPos.x + playerRenderDist; chunkX++)
+        {
+            for (int chunkZ = playerChunkPos.z - playerRenderDist + 1; chunkZ < playerChunkPos.z + playerRenderDist; chunkZ++)
             {
-                final Color colour = colonyColours.computeIfAbsent(colonyId, id ->
+                final long chunkLong = ChunkPos.asLong(chunkX, chunkZ);
+                final int colonyId = ids.applyAsInt(chunkLong);
+                if (colonyId == 0 || colonyId == UNKNOWN_CHUNK)
                 {
-                    final IColonyView colony = IMinecoloniesAPI.getInstance().getColonyManager().getColonyView(id, Minecraft.getInstance().level.dimension());
-                    final ChatFormatting team = colony != null ? colony.getTeamColonyColor() : id == playerColonyId ? ChatFormatting.WHITE : ChatFormatting.RED;
-                    return new Color(team.getColor());
-                });
-
-                bufferbuilder.defaultColor(colour.getRed(), colour.getGreen(), colour.getBlue(), colour.getAlpha());
-            }
-            else if (colonyId == playerColonyId)
-            {
-                bufferbuilder.defaultColor(255, 255, 255, 255);
-            }
-            else
-            {
-                bufferbuilder.defaultColor(255, 70, 70, 255);
-            }
+                    continue;
+                }
 
-            mutableChunkPos.setX(chunkPos.x);
-            mutableChunkPos.setZ(chunkPos.z - 1);
-            final boolean north = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+                final boolean isPlayerChunkX = colonyId == playerColonyId && chunkX == playerChunkPos.x;
+                final boolean isPlayerChunkZ = colonyId == playerColonyId && chunkZ == playerChunkPos.z;
+                final float minX = SectionPos.sectionToBlockCoord(chunkX);
+                final float maxX = minX + CHUNK_SIZE;
+                final float minZ = SectionPos.sectionToBlockCoord(chunkZ);
+                final float maxZ = minZ + CHUNK_SIZE;
 
-            mutableChunkPos.setZ(chunkPos.z + 1);
-            final boolean south = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+                if (useColonyColour)
+                {
+                    final Color colour = colonyColours.computeIfAbsent(colonyId, id ->
+                    {
+                        final IColonyView colony = IMinecoloniesAPI.getInstance().getColonyManager().getColonyView(id, Minecraft.getInstance().level.dimension());
+                        final ChatFormatting team = colony != null ? colony.getTeamColonyColor() : id == playerColonyId ? ChatFormatting.WHITE : ChatFormatting.RED;
+                        return new Color(team.getColor());
+                    });
 
-            mutableChunkPos.setX(chunkPos.x + 1);
-            mutableChunkPos.setZ(chunkPos.z);
-            final boolean east = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+                    bufferbuilder.defaultColor(colour.getRed(), colour.getGreen(), colour.getBlue(), colour.getAlpha());
+                }
+                else if (colonyId == playerColonyId)
+                {
+                    bufferbuilder.defaultColor(255, 255, 255, 255);
+                }
+                else
+                {
+                    bufferbuilder.defaultColor(255, 70, 70, 255);
+                }
 
-            mutableChunkPos.setX(chunkPos.x - 1);
-            final boolean west = mapToDraw.getOrDefault(mutableChunkPos, -1) != testedColonyId;
+                final byte chunkEdges = getEdges(chunkLong, ids, edges);
+                final boolean north = (chunkEdges & NORTH) != 0;
+                final boolean south = (chunkEdges & SOUTH) != 0;
+                final boolean east = (chunkEdges & EAST) != 0;
+                final boolean west = (chunkEdges & WEST) != 0;
 
-            // vert lines
-            if (north || west)
-            {
-                bufferbuilder.vertex(minX, 0, minZ).endVertex();
-                bufferbuilder.vertex(minX, CHUNK_HEIGHT, minZ).endVertex();
-            }
-            if (north || east)
-            {
-                bufferbuilder.vertex(maxX, 0, minZ).endVertex();
-                bufferbuilder.vertex(maxX, CHUNK_HEIGHT, minZ).endVertex();
-            }
-            if (south || west)
-            {
-                bufferbuilder.vertex(minX, 0, maxZ).endVertex();
-                bufferbuilder.vertex(minX, CHUNK_HEIGHT, maxZ).endVertex();
-            }
-            if (south || east)
-            {
-                bufferbuilder.vertex(maxX, 0, maxZ).endVertex();
-                bufferbuilder.vertex(maxX, CHUNK_HEIGHT, maxZ).endVertex();
-            }
-
-            // horizontal lines
-            if (north)
-            {
-                if (isPlayerChunkX)
+                // vert lines
+                if (north || west)
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX + shift, 0, minZ).endVertex();
-                        bufferbuilder.vertex(minX + shift, CHUNK_HEIGHT, minZ).endVertex();
-                    }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                    }
+                    bufferbuilder.vertex(minX, 0, minZ).endVertex();
+                    bufferbuilder.vertex(minX, CHUNK_HEIGHT, minZ).endVertex();
                 }
-                else
+                if (north || east)
                 {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
-                    {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                    }
+                    bufferbuilder.vertex(maxX, 0, minZ).endVertex();
+                    bufferbuilder.vertex(maxX, CHUNK_HEIGHT, minZ).endVertex();
                 }
-            }
-            if (south)
-            {
-                if (isPlayerChunkX)
+                if (south || west)
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX + shift, 0, maxZ).endVertex();
-                        bufferbuilder.vertex(minX + shift, CHUNK_HEIGHT, maxZ).endVertex();
-                    }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
-                    {
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
-                    }
+                    bufferbuilder.vertex(minX, 0, maxZ).endVertex();
+                    bufferbuilder.vertex(minX, CHUNK_HEIGHT, maxZ).endVertex();
                 }
-                else
+                if (south || east)
                 {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
-                    {
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
-                    }
+                    bufferbuilder.vertex(maxX, 0, maxZ).endVertex();
+                    bufferbuilder.vertex(maxX, CHUNK_HEIGHT, maxZ).endVertex();
                 }
-            }
-            if (west)
-            {
-                if (isPlayerChunkZ)
+
+                // horizontal lines
+                if (north)
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+                    if (isPlayerChunkX)
                     {
-                        bufferbuilder.vertex(minX, 0, minZ + shift).endVertex();
-                        bufferbuilder.vertex(minX, CHUNK_HEIGHT, minZ + shift).endVertex();
+                        for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(minX + shift, 0, minZ).endVertex();
+                            bufferbuilder.vertex(minX + shift, CHUNK_HEIGHT, minZ).endVertex();
+                        }
+                        for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(minX, y, minZ).endVertex();
+                            bufferbuilder.vertex(maxX, y, minZ).endVertex();
+                        }
                     }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+                    else
                     {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
+                        for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+                        {
+                            bufferbuilder.vertex(minX, y, minZ).endVertex();
+                            bufferbuilder.vertex(maxX, y, minZ).endVertex();
+                        }
                     }
                 }
-                else
+                if (south)
                 {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+                    if (isPlayerChunkX)
+                    {
+                        for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(minX + shift, 0, maxZ).endVertex();
+                            bufferbuilder.vertex(minX + shift, CHUNK_HEIGHT, maxZ).endVertex();
+                        }
+                        for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(minX, y, maxZ).endVertex();
+                            bufferbuilder.vertex(maxX, y, maxZ).endVertex();
+                        }
+                    }
+                    else
                     {
-                        bufferbuilder.vertex(minX, y, minZ).endVertex();
-                        bufferbuilder.vertex(minX, y, maxZ).endVertex();
+                        for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+                        {
+                            bufferbuilder.vertex(minX, y, maxZ).endVertex();
+                            bufferbuilder.vertex(maxX, y, maxZ).endVertex();
+                        }
                     }
                 }
-            }
-            if (east)
-            {
-                if (isPlayerChunkZ)
+                if (west)
                 {
-                    for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+                    if (isPlayerChunkZ)
                     {
-                        bufferbuilder.vertex(maxX, 0, minZ + shift).endVertex();
-                        bufferbuilder.vertex(maxX, CHUNK_HEIGHT, minZ + shift).endVertex();
+                        for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(minX, 0, minZ + shift).endVertex();
+                            bufferbuilder.vertex(minX, CHUNK_HEIGHT, minZ + shift).endVertex();
+                        }
+                        for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(minX, y, minZ).endVertex();
+                            bufferbuilder.vertex(minX, y, maxZ).endVertex();
+                        }
                     }
-                    for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+                    else
                     {
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
+                        for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+                        {
+                            bufferbuilder.vertex(minX, y, minZ).endVertex();
+                            bufferbuilder.vertex(minX, y, maxZ).endVertex();
+                        }
                     }
                 }
-                else
+                if (east)
                 {
-                    for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+                    if (isPlayerChunkZ)
                     {
-                        bufferbuilder.vertex(maxX, y, minZ).endVertex();
-                        bufferbuilder.vertex(maxX, y, maxZ).endVertex();
+                        for (int shift = PLAYER_CHUNK_STEP; shift < CHUNK_SIZE; shift += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(maxX, 0, minZ + shift).endVertex();
+                            bufferbuilder.vertex(maxX, CHUNK_HEIGHT, minZ + shift).endVertex();
+                        }
+                        for (int y = PLAYER_CHUNK_STEP; y < CHUNK_HEIGHT; y += PLAYER_CHUNK_STEP)
+                        {
+                            bufferbuilder.vertex(maxX, y, minZ).endVertex();
+                            bufferbuilder.vertex(maxX, y, maxZ).endVertex();
+                        }
+                    }
+                    else
+                    {
+                        for (int y = CHUNK_SIZE; y < CHUNK_HEIGHT; y += CHUNK_SIZE)
+                        {
+                            bufferbuilder.vertex(maxX, y, minZ).endVertex();
+                            bufferbuilder.vertex(maxX, y, maxZ).endVertex();
+                        }
                     }
                 }
             }
-        });
+        }
 
         final BufferBuilder.RenderedBuffer renderedBuffer = bufferbuilder.endOrDiscardIfEmpty();
         if (renderedBuffer == null)
@@ -328,7 +480,14 @@ public class ColonyBorderRenderer
         {
             chunktickets.close();
         }
+        colonies = null;
+        chunktickets = null;
         lastColony = null;
         lastPlayerChunkPos = null;
+        lastTicketedChunks = null;
+        chunkOwners.clear();
+        colonyEdges.clear();
+        ticketEdges.clear();
+        updatedChunks.clear();
     }
 }
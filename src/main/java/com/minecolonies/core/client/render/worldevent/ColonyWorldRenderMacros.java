@@ -1,6 +1,7 @@
 package com.minecolonies.core.client.render.worldevent;
 
 import com.ldtteam.structurize.util.WorldRenderMacros;
+import com.mojang.blaze3d.systems.RenderSystem;
 import com.mojang.blaze3d.vertex.PoseStack;
 import com.mojang.blaze3d.vertex.VertexConsumer;
 import net.minecraft.client.renderer.MultiBufferSource;
@@ -23,6 +24,47 @@ public class ColonyWorldRenderMacros
      */
     public static void renderLineBox(final PoseStack poseStack, final MultiBufferSource.BufferSource bufferSource,
                                      final AABB bounds, final float width, final int color, final boolean showThroughBlocks)
+    {
+        final int red = FastColor.ARGB32.red(color);
+        final int green = FastColor.ARGB32.green(color);
+        final int blue = FastColor.ARGB32.blue(color);
+        final int alpha = FastColor.ARGB32.alpha(color);
+
+        if (showThroughBlocks)
+        {
+            renderLineBox(poseStack, bufferSource.getBuffer(RenderTypes.LINES_INSIDE_BLOCKS), bounds, width, red / 2, green / 2, blue / 2, alpha / 2);
+        }
+
+        renderLineBox(poseStack, bufferSource.getBuffer(RenderTypes.LINES_OUTSIDE_BLOCKS), bounds, width, red, green, blue, alpha);
+    }
+
+    /**
+     * Render a wireframe box into a buffer of the {@link RenderTypes#LINES_OUTSIDE_BLOCKS} format, e.g. to bake it into a vertex buffer.
+     * @param poseStack pose stack
+     * @param buffer    buffer
+     * @param bounds    bounding box to draw
+     * @param width     line width
+     * @param color     line color (ARGB)
+     */
+    public static void renderLineBox(final PoseStack poseStack, final VertexConsumer buffer, final AABB bounds, final float width, final int color)
+    {
+        renderLineBox(poseStack, buffer, bounds, width,
+                FastColor.ARGB32.red(color), FastColor.ARGB32.green(color), FastColor.ARGB32.blue(color), FastColor.ARGB32.alpha(color));
+    }
+
+    /**
+     * Render a wireframe box.
+     * @param poseStack pose stack
+     * @param buffer    buffer
+     * @param bounds    bounding box to draw
+     * @param width     line width
+     * @param red       red
+     * @param green     green
+     * @param blue      blue
+     * @param alpha     alpha
+     */
+    private static void renderLineBox(final PoseStack poseStack, final VertexConsumer buffer, final AABB bounds, final float width,
+                                      final int red, final int green, final int blue, final int alpha)
     {
         final float halfLine = width / 2.0f;
         final float minX = (float) (bounds.minX - halfLine);
@@ -39,21 +81,29 @@ public class ColonyWorldRenderMacros
         final float maxY2 = maxY - width;
         final float maxZ2 = maxZ - width;
 
-        final int red = FastColor.ARGB32.red(color);
-        final int green = FastColor.ARGB32.green(color);
-        final int blue = FastColor.ARGB32.blue(color);
-        final int alpha = FastColor.ARGB32.alpha(color);
+        renderLineBox(poseStack, buffer, minX, minY, minZ, minX2, minY2, minZ2, maxX, maxY, maxZ, maxX2, maxY2, maxZ2, red, green, blue, alpha);
+    }
 
-        if (showThroughBlocks)
-        {
-            renderLineBox(poseStack, bufferSource.getBuffer(RenderTypes.LINES_INSIDE_BLOCKS),
-                    minX, minY, minZ, minX2, minY2, minZ2, maxX, maxY, maxZ, maxX2, maxY2, maxZ2,
-                    red / 2, green / 2, blue / 2, alpha / 2);
-        }
+    /**
+     * Apply a pose stack to the shader model view, e.g. to draw a vertex buffer at the pose.  Undo with {@link #popShaderMVstack()}.
+     * @param pushWith pose stack
+     */
+    static void pushShaderMVstack(final PoseStack pushWith)
+    {
+        final PoseStack ps = RenderSystem.getModelViewStack();
+        ps.pushPose();
+        ps.last().pose().mul(pushWith.last().pose());
+        ps.last().normal().mul(pushWith.last().normal());
+        RenderSystem.applyModelViewMatrix();
+    }
 
-        renderLineBox(poseStack, bufferSource.getBuffer(RenderTypes.LINES_OUTSIDE_BLOCKS),
-                minX, minY, minZ, minX2, minY2, minZ2, maxX, maxY, maxZ, maxX2, maxY2, maxZ2,
-                red, green, blue, alpha);
+    /**
+     * Undo {@link #pushShaderMVstack(PoseStack)}.
+     */
+    static void popShaderMVstack()
+    {
+        RenderSystem.getModelViewStack().popPose();
+        RenderSystem.applyModelViewMatrix();
     }
 
     /**
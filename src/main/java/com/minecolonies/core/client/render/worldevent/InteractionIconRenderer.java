@@ -0,0 +1,99 @@
+package com.minecolonies.core.client.render.worldevent;
+
+import com.mojang.blaze3d.vertex.VertexConsumer;
+import it.unimi.dsi.fastutil.floats.FloatArrayList;
+import net.minecraft.resources.ResourceLocation;
+import org.joml.Matrix4f;
+import org.joml.Vector3f;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Renders the interaction icons above citizens. The citizen renderer only queues the icons, they are drawn after all entities in one batch per icon texture instead of
+ * switching buffers for every citizen. Icons are only queued while the level renders its entities, entities rendered elsewhere, e.g. in GUIs, draw their icon directly.
+ */
+public class InteractionIconRenderer
+{
+    /**
+     * Corners of the icon quad in the scaled icon space, with their texture coordinates.
+     */
+    private static final float[][] CORNERS = {{-5, 0, 0, 0}, {-5, 10, 0, 1}, {5, 10, 1, 1}, {5, 0, 1, 0}};
+
+    /**
+     * The transformed corner positions of the queued icons by texture.
+     */
+    private static final Map<ResourceLocation, FloatArrayList> queuedIcons = new HashMap<>();
+
+    /**
+     * Reused vector to transform the corners.
+     */
+    private static final Vector3f corner = new Vector3f();
+
+    /**
+     * If the level is currently rendering its entities.
+     */
+    private static boolean renderingEntities = false;
+
+    /**
+     * Called before the level renders its entities, icons are queued from then on until they are drawn.
+     */
+    static void startEntityRendering()
+    {
+        renderingEntities = true;
+    }
+
+    /**
+     * Check if icons can be queued, only the case while the level renders its entities.
+     *
+     * @return true if so.
+     */
+    public static boolean canQueue()
+    {
+        return renderingEntities;
+    }
+
+    /**
+     * Queue an icon for this frame.
+     *
+     * @param icon the icon texture.
+     * @param pose the pose of the icon, facing the camera.
+     */
+    public static void queue(final ResourceLocation icon, final Matrix4f pose)
+    {
+        final FloatArrayList positions = queuedIcons.computeIfAbsent(icon, key -> new FloatArrayList());
+        for (final float[] uvCorner : CORNERS)
+        {
+            pose.transformPosition(uvCorner[0], uvCorner[1], 0, corner);
+            positions.add(corner.x());
+            positions.add(corner.y());
+            positions.add(corner.z());
+        }
+    }
+
+    /**
+     * Draws all queued icons. The positions were already transformed by the entity pose, so the pose stack of the context is not used.
+     *
+     * @param ctx rendering context
+     */
+    static void render(final WorldEventContext ctx)
+    {
+        renderingEntities = false;
+        for (final Map.Entry<ResourceLocation, FloatArrayList> entry : queuedIcons.entrySet())
+        {
+            final FloatArrayList positions = entry.getValue();
+            if (positions.isEmpty())
+            {
+                continue;
+            }
+
+            final VertexConsumer buffer = ctx.bufferSource.getBuffer(RenderTypes.worldEntityIcon(entry.getKey()));
+            for (int i = 0; i < positions.size(); i += 3)
+            {
+                final float[] uvCorner = CORNERS[(i / 3) % CORNERS.length];
+                buffer.vertex(positions.getFloat(i), positions.getFloat(i + 1), positions.getFloat(i + 2)).uv(uvCorner[2], uvCorner[3]).endVertex();
+            }
+            positions.clear();
+        }
+    }
+}
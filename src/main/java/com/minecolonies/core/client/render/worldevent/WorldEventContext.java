@@ -68,6 +68,7 @@ public class WorldEventContext
             PathfindingDebugRenderer.render(this);
 
             bufferSource.endBatch();
+            InteractionIconRenderer.startEntityRendering();
         }
         else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_TRIPWIRE_BLOCKS)
         {
@@ -77,6 +78,12 @@ public class WorldEventContext
 
             bufferSource.endBatch();
         }
+        else if (event.getStage() == RenderLevelStageEvent.Stage.AFTER_ENTITIES)
+        {
+            InteractionIconRenderer.render(this);
+
+            bufferSource.endBatch();
+        }
 
         poseStack.popPose();
     }
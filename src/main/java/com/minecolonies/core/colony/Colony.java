@@ -168,6 +168,21 @@ public class Colony implements IColony
      */
     private final IReproductionManager reproductionManager = new ReproductionManager(this);
 
+    /**
+     * Travel time manager of the colony.
+     */
+    private final ITravelTimeManager travelTimeManager = new TravelTimeManager(this);
+
+    /**
+     * Dropped item manager of the colony.
+     */
+    private final IDroppedItemManager droppedItemManager = new DroppedItemManager(this);
+
+    /**
+     * Combat awareness manager of the colony.
+     */
+    private final ICombatAwarenessManager combatAwarenessManager = new CombatAwarenessManager(this);
+
     /**
      * Event description manager of the colony.
      */
@@ -379,6 +394,10 @@ public class Colony implements IColony
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateTravelTimes, () -> ACTIVE, UPDATE_TRAVEL_TIMES_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateDroppedItems, () -> ACTIVE, UPDATE_DROPPED_ITEMS_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::prepareRaidSpawn, () -> ACTIVE, UPDATE_RAID_SPAWN_INTERVAL));
+        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::spawnQueuedRaiders, () -> ACTIVE, UPDATE_RAIDER_SPAWNING_INTERVAL));
         colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
         colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
     }
@@ -436,6 +455,50 @@ public class Colony implements IColony
         return false;
     }
 
+    /**
+     * Updates the travel time cache.
+     *
+     * @return false
+     */
+    private boolean updateTravelTimes()
+    {
+        travelTimeManager.onColonyTick(this);
+        return false;
+    }
+
+    /**
+     * Updates the dropped item index.
+     *
+     * @return false
+     */
+    private boolean updateDroppedItems()
+    {
+        droppedItemManager.onColonyTick(this);
+        return false;
+    }
+
+    /**
+     * Prepare a spawn point for a planned raid.
+     *
+     * @return false
+     */
+    private boolean prepareRaidSpawn()
+    {
+        raidManager.prepareSpawnLocation();
+        return false;
+    }
+
+    /**
+     * Spawn the raiders the active raids have queued.
+     *
+     * @return false
+     */
+    private boolean spawnQueuedRaiders()
+    {
+        eventManager.spawnQueuedRaiders();
+        return false;
+    }
+
     /**
      * Called every 500 ticks, for slower updates.
      *
@@ -453,6 +516,7 @@ public class Colony implements IColony
         workManager.onColonyTick(this);
         reproductionManager.onColonyTick(this);
         questManager.onColonyTick();
+        simulateOffscreenWork();
 
         final long currTime = System.currentTimeMillis();
         if (lastOnlineTime != 0)
@@ -473,6 +537,25 @@ public class Colony implements IColony
         return false;
     }
 
+    /**
+     * Lets the jobs of citizens without a loaded entity simulate their work while no player is close to the colony.
+     */
+    private void simulateOffscreenWork()
+    {
+        if (!getConfig().getServer().offscreenWorkSimulation.get() || !getPackageManager().getCloseSubscribers().isEmpty())
+        {
+            return;
+        }
+
+        for (final ICitizenData citizen : citizenManager.getCitizens())
+        {
+            if (citizen.getJob() != null && citizen.getEntity().isEmpty())
+            {
+                citizen.getJob().simulateOffscreenWork();
+            }
+        }
+    }
+
     /**
      * Check if we can unload the colony now.
      * Update chunk unload timer and releases chunks when it hits 0.
@@ -1550,6 +1633,24 @@ public class Colony implements IColony
         return reproductionManager;
     }
 
+    @Override
+    public ITravelTimeManager getTravelTimeManager()
+    {
+        return travelTimeManager;
+    }
+
+    @Override
+    public IDroppedItemManager getDroppedItemManager()
+    {
+        return droppedItemManager;
+    }
+
+    @Override
+    public ICombatAwarenessManager getCombatAwarenessManager()
+    {
+        return combatAwarenessManager;
+    }
+
     @Override
     public IEventDescriptionManager getEventDescriptionManager()
     {
@@ -203,6 +203,7 @@ public final class ColonyManager implements IColonyManager
             }
 
             ColonyEvents.deleteColony(colony);
+            colony.getDroppedItemManager().clear();
             cap.deleteColony(id);
             BackUpHelper.markColonyDeleted(colony.getID(), colony.getDimension());
             colony.getImportantMessageEntityPlayers()
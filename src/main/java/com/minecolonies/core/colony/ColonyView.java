@@ -77,6 +77,36 @@ public final class ColonyView implements IColonyView
      */
     private static final int REQUEST_MANAGER_MAX_SIZE = 700000;
 
+    /**
+     * Travel times of the view, which has no path jobs and only knows straight line distances.
+     */
+    private static final ITravelTimeManager TRAVEL_TIME_MANAGER = new ITravelTimeManager()
+    {
+        @Override
+        public double getWalkingDistance(@NotNull final BlockPos from, @NotNull final BlockPos to)
+        {
+            return BlockPosUtil.getDistance(from, to);
+        }
+
+        @Override
+        public void onBuildingChanged(@NotNull final BlockPos building)
+        {
+            // nothing cached
+        }
+
+        @Override
+        public void clear()
+        {
+            // nothing cached
+        }
+
+        @Override
+        public void onColonyTick(@NotNull final IColony colony)
+        {
+            // no path jobs on the client
+        }
+    };
+
     //  General Attributes
     private final int                            id;
     private final Map<Integer, IWorkOrderView>   workOrders  = new HashMap<>();
@@ -1492,6 +1522,24 @@ public final class ColonyView implements IColonyView
         return null;
     }
 
+    @Override
+    public ITravelTimeManager getTravelTimeManager()
+    {
+        return TRAVEL_TIME_MANAGER;
+    }
+
+    @Override
+    public IDroppedItemManager getDroppedItemManager()
+    {
+        return null;
+    }
+
+    @Override
+    public ICombatAwarenessManager getCombatAwarenessManager()
+    {
+        return null;
+    }
+
     @Override
     public IEventDescriptionManager getEventDescriptionManager()
     {
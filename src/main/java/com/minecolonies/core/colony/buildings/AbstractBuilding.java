@@ -968,8 +968,8 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         calculateCorners();
         this.isBuilt = true;
 
-        final List<IToken<?>> playerRequests = colony.getRequestManager().getPlayerResolver().getAllAssignedRequests();
-        final List<IToken<?>> retryingRequests = colony.getRequestManager().getRetryingRequestResolver().getAllAssignedRequests();
+        final Set<IToken<?>> playerRequests = new HashSet<>(colony.getRequestManager().getPlayerResolver().getAllAssignedRequests());
+        final Set<IToken<?>> retryingRequests = new HashSet<>(colony.getRequestManager().getRetryingRequestResolver().getAllAssignedRequests());
 
         for (final Collection<IToken<?>> requestList : new ArrayList<>(getOpenRequestsByCitizen().values()))
         {
@@ -1750,8 +1750,8 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
         }
 
         final Collection<IRequestResolver<?>> resolvers = getResolvers();
-        final List<IToken<?>> playerRequests = colony.getRequestManager().getPlayerResolver().getAllAssignedRequests();
-        final List<IToken<?>> retryingRequests = colony.getRequestManager().getRetryingRequestResolver().getAllAssignedRequests();
+        final Set<IToken<?>> playerRequests = new HashSet<>(colony.getRequestManager().getPlayerResolver().getAllAssignedRequests());
+        final Set<IToken<?>> retryingRequests = new HashSet<>(colony.getRequestManager().getRetryingRequestResolver().getAllAssignedRequests());
 
 
         for (final IRequestResolver<?> resolver : resolvers)
@@ -1804,7 +1804,7 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer
      * @param target the request to check.
      * @return true if stuck.
      */
-    private boolean isRequestStuck(final IRequest<?> target, final List<IToken<?>> playerResolverRequests, final List<IToken<?>> retryingRequests)
+    private boolean isRequestStuck(final IRequest<?> target, final Set<IToken<?>> playerResolverRequests, final Set<IToken<?>> retryingRequests)
     {
         if (playerResolverRequests.contains(target.getId())
               || retryingRequests.contains(target.getId()))
@@ -443,15 +443,14 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             {
                 if (recipeStorage.getAlternateOutputs().isEmpty())
                 {
-                    building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
+                    building.getColony().getRequestManager().onItemAvailabilityChanged(recipeStorage.getPrimaryOutput());
                     return true;
                 }
 
                 final List<ItemStack> allOutputs = Stream.concat(Stream.of(recipeStorage.getPrimaryOutput()),
                     recipeStorage.getAlternateOutputs().stream()).filter(stack -> !stack.isEmpty()).toList();
 
-                building.getColony().getRequestManager().onColonyUpdate(request ->
-                                                                          request.getRequest() instanceof IDeliverable delivery && allOutputs.stream().anyMatch(i -> delivery.matches(i)));
+                allOutputs.forEach(building.getColony().getRequestManager()::onItemAvailabilityChanged);
             }
             return true;
         }
@@ -532,14 +531,14 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                 if(duplicateFound == null)
                 {
                     addRecipeToList(recipeToken, true);
-                    building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
+                    building.getColony().getRequestManager().onItemAvailabilityChanged(recipeStorage.getPrimaryOutput());
                     markDirty();
                 }
                 else if((forceReplace || newRecipe.getMustExist()) && !(duplicateFound.equals(recipeToken)))
                 {
                     //We found the base recipe for a multi-recipe, replace it with the multi-recipe
                     replaceRecipe(duplicateFound, recipeToken);
-                    building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
+                    building.getColony().getRequestManager().onItemAvailabilityChanged(recipeStorage.getPrimaryOutput());
 
                     //Clean up old 'classic' recipes that the new multi-recipe replaces
                     final List<ItemStack> alternates = recipeStorage.getAlternateOutputs();
@@ -551,7 +550,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
                             removeRecipe(token);
                         }
                     }
-                    building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
+                    building.getColony().getRequestManager().onItemAvailabilityChanged(recipeStorage.getPrimaryOutput());
                     markDirty();
                 }
             }
@@ -836,7 +835,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(token);
             if (recipeStorage != null)
             {
-                building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
+                building.getColony().getRequestManager().onItemAvailabilityChanged(recipeStorage.getPrimaryOutput());
             }
         }
     }
@@ -922,7 +921,7 @@ public abstract class AbstractCraftingBuildingModule extends AbstractBuildingMod
             final IRecipeStorage recipeStorage = IColonyManager.getInstance().getRecipeManager().getRecipes().get(key);
             if (recipeStorage != null)
             {
-                building.getColony().getRequestManager().onColonyUpdate(request -> request.getRequest() instanceof IDeliverable iDeliverable && iDeliverable.matches(recipeStorage.getPrimaryOutput()));
+                building.getColony().getRequestManager().onItemAvailabilityChanged(recipeStorage.getPrimaryOutput());
             }
         }
         else
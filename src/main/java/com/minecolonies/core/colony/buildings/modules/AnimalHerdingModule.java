@@ -1,31 +1,55 @@
 package com.minecolonies.core.colony.buildings.modules;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.modules.AbstractBuildingModule;
+import com.minecolonies.api.colony.buildings.modules.ITickingModule;
 import com.minecolonies.api.colony.jobs.IJob;
 import com.minecolonies.api.colony.jobs.registry.JobEntry;
 import com.minecolonies.api.crafting.GenericRecipe;
 import com.minecolonies.api.crafting.IGenericRecipe;
 import com.minecolonies.api.equipment.ModEquipmentTypes;
+import com.minecolonies.api.util.WorldUtil;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.animal.Animal;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraftforge.registries.ForgeRegistries;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 import java.util.function.Predicate;
 
 /**
  * Provides some basic definitions used by the animal herding AI (and JEI).
  */
-public class AnimalHerdingModule extends AbstractBuildingModule
+public class AnimalHerdingModule extends AbstractBuildingModule implements ITickingModule
 {
     private final JobEntry jobEntry;
     private final Predicate<Animal> animalPredicate;
     private final ItemStack breedingItem;
 
+    /**
+     * The compatible animals known to be in the building area. Animals are dropped when they leave the world or are found dead when reading.
+     */
+    private final Set<Animal> trackedAnimals = new HashSet<>();
+
+    /**
+     * The amount of tracked animals per species.
+     */
+    private final Object2IntOpenHashMap<EntityType<?>> animalCounts = new Object2IntOpenHashMap<>();
+
+    /**
+     * If the tracked animals were checked against the world yet.
+     */
+    private boolean scanned = false;
+
+    /**
+     * Game time until which breeding should not be attempted again.
+     */
+    private long breedTimeOutEnd = 0;
+
     public AnimalHerdingModule(@NotNull final JobEntry jobEntry,
                                @NotNull final Predicate<Animal> animalPredicate,
                                @NotNull final ItemStack breedingItem)
@@ -57,6 +81,156 @@ public class AnimalHerdingModule extends AbstractBuildingModule
         return animalPredicate.test(animal);
     }
 
+    @Override
+    public void onColonyTick(@NotNull final IColony colony)
+    {
+        scanAnimals();
+    }
+
+    /**
+     * Track an animal which joined the world, if it belongs to this module.
+     *
+     * @param animal the animal.
+     */
+    public void onAnimalJoined(@NotNull final Animal animal)
+    {
+        if (scanned && isCompatible(animal) && building.isInBuilding(animal.blockPosition()))
+        {
+            track(animal);
+        }
+    }
+
+    /**
+     * Stop tracking an animal which left the world, e.g. because it died or was unloaded.
+     *
+     * @param animal the animal.
+     */
+    public void onAnimalLeft(@NotNull final Animal animal)
+    {
+        untrack(animal);
+    }
+
+    /**
+     * Get the amount of tracked animals of a species.
+     *
+     * @param type the species.
+     * @return the amount of animals.
+     */
+    public int getAnimalCount(@NotNull final EntityType<?> type)
+    {
+        if (!scanned)
+        {
+            scanAnimals();
+        }
+        return animalCounts.getInt(type);
+    }
+
+    /**
+     * Get the amount of tracked animals of all species of this module.
+     *
+     * @return the amount of animals.
+     */
+    public int getAnimalCount()
+    {
+        if (!scanned)
+        {
+            scanAnimals();
+        }
+        return trackedAnimals.size();
+    }
+
+    /**
+     * Get the live animals of this module in the building area.
+     *
+     * @param predicate the filter to apply.
+     * @return a new list of the animals.
+     */
+    @NotNull
+    public List<Animal> getAnimals(@NotNull final Predicate<Animal> predicate)
+    {
+        if (!scanned)
+        {
+            scanAnimals();
+        }
+
+        final List<Animal> animals = new ArrayList<>();
+        final Iterator<Animal> iterator = trackedAnimals.iterator();
+        while (iterator.hasNext())
+        {
+            final Animal animal = iterator.next();
+            if (!animal.isAlive())
+            {
+                iterator.remove();
+                decrementCount(animal.getType());
+            }
+            else if (building.isInBuilding(animal.blockPosition()) && predicate.test(animal))
+            {
+                animals.add(animal);
+            }
+        }
+        return animals;
+    }
+
+    /**
+     * Check if breeding was timed out after a failed or finished attempt.
+     *
+     * @param gameTime the current game time.
+     * @return true if breeding should not be tried yet.
+     */
+    public boolean isBreedingTimedOut(final long gameTime)
+    {
+        return gameTime < breedTimeOutEnd;
+    }
+
+    /**
+     * Time out breeding for this module.
+     *
+     * @param gameTime the current game time.
+     * @param ticks    the ticks to wait.
+     */
+    public void setBreedTimeOut(final long gameTime, final int ticks)
+    {
+        breedTimeOutEnd = gameTime + ticks;
+    }
+
+    /**
+     * Reconcile the tracked animals with the animals really in the building area.
+     */
+    private void scanAnimals()
+    {
+        trackedAnimals.clear();
+        animalCounts.clear();
+        for (final Animal animal : WorldUtil.getEntitiesWithinBuilding(building.getColony().getWorld(), Animal.class, building, this::isCompatible))
+        {
+            track(animal);
+        }
+        scanned = true;
+    }
+
+    private void track(final Animal animal)
+    {
+        if (trackedAnimals.add(animal))
+        {
+            animalCounts.addTo(animal.getType(), 1);
+        }
+    }
+
+    private void untrack(final Animal animal)
+    {
+        if (trackedAnimals.remove(animal))
+        {
+            decrementCount(animal.getType());
+        }
+    }
+
+    private void decrementCount(final EntityType<?> type)
+    {
+        if (animalCounts.addTo(type, -1) <= 1)
+        {
+            animalCounts.removeInt(type);
+        }
+    }
+
     /**
      * Gets the item required to breed the animal.
      *
@@ -444,6 +444,8 @@ public class BuildingModules
         .with(AbstractBuilding.USE_SHEARS, new BoolSetting(false)), () -> SettingsModuleView::new);
     public static final BuildingEntry.ModuleProducer<IBuildingModule,ToolModuleView> FORESTER_TOOL     =
       new BuildingEntry.ModuleProducer<>("forester_zone", null, () -> () -> new ToolModuleView(ModItems.scepterLumberjack));
+    public static final BuildingEntry.ModuleProducer<ForestMapModule,IBuildingModuleView> FORESTER_MAP     =
+      new BuildingEntry.ModuleProducer<>("forester_map", ForestMapModule::new, null);
 
     public static final BuildingEntry.ModuleProducer<HospitalAssignmentModule,WorkerBuildingModuleView> HEALER_WORK           =
       new BuildingEntry.ModuleProducer<>("healer_work",
@@ -0,0 +1,293 @@
+package com.minecolonies.core.colony.buildings.modules;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.modules.AbstractBuildingModule;
+import com.minecolonies.api.colony.buildings.modules.ITickingModule;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.WorldUtil;
+import com.minecolonies.core.colony.buildings.workerbuildings.BuildingLumberjack;
+import com.minecolonies.core.entity.ai.workers.util.Tree;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.levelgen.Heightmap;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static com.minecolonies.core.entity.ai.workers.production.EntityAIWorkLumberjack.SAPLINGS_LIST;
+import static com.minecolonies.core.entity.ai.workers.production.EntityAIWorkLumberjack.SEARCH_RANGE;
+
+/**
+ * Keeps a map of the tree bases in the work area of the lumberjack, so the worker does not have to search the area for every tree.
+ * The area is scanned a limited amount of columns and tree checks per colony tick, resuming where the last tick stopped, and saplings growing in it are added right
+ * away. Entries are validated again when handed out, the worker still searches the area itself while the map is empty.
+ */
+public class ForestMapModule extends AbstractBuildingModule implements ITickingModule
+{
+    /**
+     * The amount of columns scanned per colony tick.
+     */
+    private static final int COLUMNS_PER_SCAN = 512;
+
+    /**
+     * The amount of found trunks checked as a tree per colony tick, as each check walks the whole tree.
+     */
+    private static final int TREE_CHECKS_PER_SCAN = 8;
+
+    /**
+     * Amount of columns in a chunk.
+     */
+    private static final int CHUNK_COLUMNS = 16 * 16;
+
+    /**
+     * The tree bases found in the work area.
+     */
+    private final Set<BlockPos> knownTrees = new HashSet<>();
+
+    /**
+     * Trees the worker could not walk to, skipped until the next full scan of the area.
+     */
+    private final Set<BlockPos> unreachableTrees = new HashSet<>();
+
+    /**
+     * The chunks left to scan in the current scan of the area.
+     */
+    private final LongArrayFIFOQueue chunksToScan = new LongArrayFIFOQueue();
+
+    /**
+     * The next column to scan in the chunk at the head of the queue.
+     */
+    private int nextColumn = 0;
+
+    @Override
+    public void onColonyTick(@NotNull final IColony colony)
+    {
+        if (chunksToScan.isEmpty())
+        {
+            unreachableTrees.clear();
+            queueAreaChunks();
+        }
+
+        final BuildingLumberjack lumberjack = (BuildingLumberjack) building;
+        final List<ItemStorage> excludedTrees = lumberjack.getModuleMatching(ItemListModule.class, m -> m.getId().equals(SAPLINGS_LIST)).getList();
+        final int dynamicTreeSize = lumberjack.getSetting(BuildingLumberjack.DYNAMIC_TREES_SIZE).getValue();
+        final Level world = colony.getWorld();
+
+        int columns = 0;
+        int treeChecks = 0;
+        while (columns < COLUMNS_PER_SCAN && treeChecks < TREE_CHECKS_PER_SCAN && !chunksToScan.isEmpty())
+        {
+            final long chunk = chunksToScan.firstLong();
+            if (!colony.getLoadedChunks().contains(chunk))
+            {
+                chunksToScan.dequeueLong();
+                nextColumn = 0;
+                continue;
+            }
+
+            final int chunkX = ChunkPos.getX(chunk);
+            final int chunkZ = ChunkPos.getZ(chunk);
+            if (nextColumn == 0)
+            {
+                forgetTrees(chunkX, chunkZ);
+            }
+
+            if (scanColumn(world, (chunkX << 4) + (nextColumn >> 4), (chunkZ << 4) + (nextColumn & 15), excludedTrees, dynamicTreeSize))
+            {
+                treeChecks++;
+            }
+            columns++;
+
+            if (++nextColumn == CHUNK_COLUMNS)
+            {
+                chunksToScan.dequeueLong();
+                nextColumn = 0;
+            }
+        }
+    }
+
+    /**
+     * Track a sapling growing into a tree, if it is in the work area.
+     *
+     * @param pos the position of the sapling.
+     */
+    public void onSaplingGrow(@NotNull final BlockPos pos)
+    {
+        if (isInWorkArea(pos))
+        {
+            knownTrees.add(pos.immutable());
+        }
+    }
+
+    /**
+     * Take the nearest valid tree from the map.
+     *
+     * @param from the position to measure the distance from.
+     * @return the position of the tree or null if no valid tree is known.
+     */
+    @Nullable
+    public BlockPos takeNearestTree(@NotNull final BlockPos from)
+    {
+        final BuildingLumberjack lumberjack = (BuildingLumberjack) building;
+        final Level world = building.getColony().getWorld();
+        final List<ItemStorage> excludedTrees = lumberjack.getModuleMatching(ItemListModule.class, m -> m.getId().equals(SAPLINGS_LIST)).getList();
+        final int dynamicTreeSize = lumberjack.getSetting(BuildingLumberjack.DYNAMIC_TREES_SIZE).getValue();
+
+        while (!knownTrees.isEmpty())
+        {
+            BlockPos nearest = null;
+            int nearestDist = Integer.MAX_VALUE;
+            for (final BlockPos pos : knownTrees)
+            {
+                final int dist = BlockPosUtil.distManhattan(from, pos);
+                if (dist < nearestDist && !unreachableTrees.contains(pos))
+                {
+                    nearest = pos;
+                    nearestDist = dist;
+                }
+            }
+
+            if (nearest == null)
+            {
+                return null;
+            }
+
+            knownTrees.remove(nearest);
+            if (isInWorkArea(nearest)
+                  && WorldUtil.isBlockLoaded(world, nearest)
+                  && Tree.checkTree(world, nearest, excludedTrees, dynamicTreeSize)
+                  && Tree.checkIfInColony(nearest, building.getColony(), world, lumberjack.shouldRestrict()))
+            {
+                return nearest;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Mark a tree from the map as unreachable for the worker.
+     *
+     * @param pos the position of the tree.
+     */
+    public void markUnreachable(@NotNull final BlockPos pos)
+    {
+        unreachableTrees.add(pos);
+        knownTrees.add(pos);
+    }
+
+    /**
+     * Queue all chunks of the current work area to be scanned.
+     */
+    private void queueAreaChunks()
+    {
+        final BlockPos start = getAreaStart();
+        final BlockPos end = getAreaEnd();
+        for (int chunkX = Math.min(start.getX(), end.getX()) >> 4; chunkX <= Math.max(start.getX(), end.getX()) >> 4; chunkX++)
+        {
+            for (int chunkZ = Math.min(start.getZ(), end.getZ()) >> 4; chunkZ <= Math.max(start.getZ(), end.getZ()) >> 4; chunkZ++)
+            {
+                chunksToScan.enqueue(ChunkPos.asLong(chunkX, chunkZ));
+            }
+        }
+    }
+
+    /**
+     * Forget the known trees of a chunk, before it is scanned again.
+     *
+     * @param chunkX the chunk x.
+     * @param chunkZ the chunk z.
+     */
+    private void forgetTrees(final int chunkX, final int chunkZ)
+    {
+        final Iterator<BlockPos> iterator = knownTrees.iterator();
+        while (iterator.hasNext())
+        {
+            final BlockPos pos = iterator.next();
+            if (pos.getX() >> 4 == chunkX && pos.getZ() >> 4 == chunkZ)
+            {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Scan a column for a tree trunk, following it from its highest log down to its base.
+     *
+     * @param world           the world.
+     * @param x               the column x.
+     * @param z               the column z.
+     * @param excludedTrees   the saplings of the trees not to cut.
+     * @param dynamicTreeSize the min size of dynamic trees.
+     * @return true if a trunk was found and checked as a tree.
+     */
+    private boolean scanColumn(@NotNull final Level world, final int x, final int z, final List<ItemStorage> excludedTrees, final int dynamicTreeSize)
+    {
+        final BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos(x, world.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z) - 1, z);
+        if (!Tree.isLog(world.getBlockState(pos)))
+        {
+            return false;
+        }
+
+        while (pos.getY() > world.getMinBuildHeight() && Tree.isLog(world.getBlockState(pos.below())))
+        {
+            pos.move(0, -1, 0);
+        }
+
+        final BlockPos base = pos.immutable();
+        if (!isInWorkArea(base))
+        {
+            return false;
+        }
+
+        if (Tree.checkTree(world, base, excludedTrees, dynamicTreeSize))
+        {
+            knownTrees.add(base);
+        }
+        return true;
+    }
+
+    /**
+     * Check if a position is in the work area of the lumberjack.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    private boolean isInWorkArea(@NotNull final BlockPos pos)
+    {
+        final BuildingLumberjack lumberjack = (BuildingLumberjack) building;
+        if (lumberjack.shouldRestrict())
+        {
+            return BlockPosUtil.isInArea(lumberjack.getStartRestriction(), lumberjack.getEndRestriction(), pos);
+        }
+        return Math.abs(pos.getX() - building.getPosition().getX()) <= SEARCH_RANGE && Math.abs(pos.getZ() - building.getPosition().getZ()) <= SEARCH_RANGE;
+    }
+
+    /**
+     * Get the first corner of the work area.
+     *
+     * @return the position.
+     */
+    private BlockPos getAreaStart()
+    {
+        final BuildingLumberjack lumberjack = (BuildingLumberjack) building;
+        return lumberjack.shouldRestrict() ? lumberjack.getStartRestriction() : building.getPosition().offset(-SEARCH_RANGE, 0, -SEARCH_RANGE);
+    }
+
+    /**
+     * Get the second corner of the work area.
+     *
+     * @return the position.
+     */
+    private BlockPos getAreaEnd()
+    {
+        final BuildingLumberjack lumberjack = (BuildingLumberjack) building;
+        return lumberjack.shouldRestrict() ? lumberjack.getEndRestriction() : building.getPosition().offset(SEARCH_RANGE, 0, SEARCH_RANGE);
+    }
+}
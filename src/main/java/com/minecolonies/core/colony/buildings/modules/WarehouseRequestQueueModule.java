@@ -1,9 +1,18 @@
 package com.minecolonies.core.colony.buildings.modules;
 
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.buildings.modules.AbstractBuildingModule;
 import com.minecolonies.api.colony.buildings.modules.IPersistentModule;
+import com.minecolonies.api.colony.buildings.modules.ITickingModule;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
+import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
+import com.minecolonies.api.colony.requestsystem.request.IRequest;
+import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.AbstractDeliverymanRequestable;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.util.Tuple;
+import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.colony.jobs.JobDeliveryman;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.Tag;
@@ -11,6 +20,7 @@ import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_REQUEST;
@@ -18,8 +28,18 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_REQUEST;
 /**
  * The class of the citizen hut.
  */
-public class WarehouseRequestQueueModule extends AbstractBuildingModule implements IPersistentModule
+public class WarehouseRequestQueueModule extends AbstractBuildingModule implements IPersistentModule, ITickingModule
 {
+    /**
+     * Max amount of tasks the dispatcher queues up for a single courier.
+     */
+    private static final int MAX_DISPATCHED_TASKS = 6;
+
+    /**
+     * Time budget of a single dispatch run, in nanoseconds.
+     */
+    private static final long DISPATCH_TIME_BUDGET = 2_000_000L;
+
     /**
      * List of all beds.
      */
@@ -50,6 +70,86 @@ public class WarehouseRequestQueueModule extends AbstractBuildingModule implemen
         }
     }
 
+    @Override
+    public void onColonyTick(@NotNull final IColony colony)
+    {
+        if (MineColonies.getConfig().getServer().courierDispatcher.get() && !requestList.isEmpty())
+        {
+            dispatchRequests(colony);
+        }
+    }
+
+    /**
+     * Distribute the queued requests over all couriers of the warehouse at once.
+     * Each request is inserted into the route of the courier where it fits best (cheapest insertion), idle and busy couriers alike,
+     * until the couriers are saturated or the time budget of this run is used up. Leftovers stay queued for the next run.
+     *
+     * @param colony the colony of the warehouse.
+     */
+    private void dispatchRequests(@NotNull final IColony colony)
+    {
+        final List<JobDeliveryman> couriers = new ArrayList<>();
+        for (final ICitizenData citizen : building.getModule(BuildingModules.WAREHOUSE_COURIERS).getAssignedCitizen())
+        {
+            if (citizen.isWorking() && citizen.getJob() instanceof JobDeliveryman && ((JobDeliveryman) citizen.getJob()).getTaskQueue().size() < MAX_DISPATCHED_TASKS)
+            {
+                couriers.add((JobDeliveryman) citizen.getJob());
+            }
+        }
+
+        if (couriers.isEmpty())
+        {
+            return;
+        }
+
+        final IRequestManager requestManager = colony.getRequestManager();
+        final long deadline = System.nanoTime() + DISPATCH_TIME_BUDGET;
+        final Iterator<IToken<?>> iterator = requestList.iterator();
+        while (iterator.hasNext() && !couriers.isEmpty() && System.nanoTime() < deadline)
+        {
+            final IToken<?> token = iterator.next();
+            final IRequest<?> request = requestManager.getRequestForToken(token);
+            if (request == null)
+            {
+                iterator.remove();
+                continue;
+            }
+
+            if (!(request.getRequest() instanceof AbstractDeliverymanRequestable))
+            {
+                continue;
+            }
+
+            JobDeliveryman bestCourier = null;
+            double bestScore = Double.MAX_VALUE;
+            int bestIndex = 0;
+            for (final JobDeliveryman courier : couriers)
+            {
+                final Tuple<Double, Integer> score = courier.getScoreForDelivery(request);
+                if (score.getA() < bestScore)
+                {
+                    bestCourier = courier;
+                    bestScore = score.getA();
+                    bestIndex = score.getB();
+                }
+            }
+
+            if (bestCourier == null)
+            {
+                continue;
+            }
+
+            bestCourier.addRequest(token, bestIndex);
+            iterator.remove();
+            if (bestCourier.getTaskQueue().size() >= MAX_DISPATCHED_TASKS)
+            {
+                couriers.remove(bestCourier);
+            }
+        }
+
+        markDirty();
+    }
+
     @Override
     public void serializeToView(final FriendlyByteBuf buf)
     {
@@ -7,10 +7,9 @@ import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.loot.ModLootTables;
 import com.minecolonies.api.util.Log;
-import com.minecolonies.core.Network;
 import com.minecolonies.core.blocks.MinecoloniesCropBlock;
 import com.minecolonies.core.colony.buildings.modules.AnimalHerdingModule;
-import io.netty.buffer.Unpooled;
+import com.minecolonies.core.network.SyncSnapshot;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.level.ServerPlayer;
@@ -366,13 +365,12 @@ public class CustomRecipeManager
 
     /**
      * Sends relevant Custom Recipes loaded from the Custom Recipe Manager to the client.
+     * Only the hash of the current snapshot is sent, the client requests the data if it has no cached copy.
      * @param player the player to send the new data to.
      */
     public void sendCustomRecipeManagerPackets(final ServerPlayer player)
     {
-        final FriendlyByteBuf recipeMgrFriendlyByteBuf = new FriendlyByteBuf(Unpooled.buffer());
-        serializeNetworkData(recipeMgrFriendlyByteBuf);
-        Network.getNetwork().sendToPlayer(new CustomRecipeManagerMessage(recipeMgrFriendlyByteBuf), player);
+        SyncSnapshot.send(player, SyncSnapshot.Type.CUSTOM_RECIPES);
     }
 
     /**
@@ -380,20 +378,21 @@ public class CustomRecipeManager
      * This version sends the full Custom Recipe Manager.
      * @param recipeMgrFriendlyByteBuf packet buffer to encode the data into.
      */
-    private void serializeNetworkData(final FriendlyByteBuf recipeMgrFriendlyByteBuf)
+    public void serializeNetworkData(final FriendlyByteBuf recipeMgrFriendlyByteBuf)
     {
+        // sorted, so the same recipes always give the same data and snapshot hash
         recipeMgrFriendlyByteBuf.writeVarInt(recipeMap.size());
-        for (Map.Entry<String, Map<ResourceLocation, CustomRecipe>> crafter : recipeMap.entrySet())
+        for (Map.Entry<String, Map<ResourceLocation, CustomRecipe>> crafter : new TreeMap<>(recipeMap).entrySet())
         {
             recipeMgrFriendlyByteBuf.writeVarInt(crafter.getValue().size());
-            for (CustomRecipe recipe : crafter.getValue().values())
+            for (CustomRecipe recipe : new TreeMap<>(crafter.getValue()).values())
             {
                 recipe.serialize(recipeMgrFriendlyByteBuf);
             }
         }
 
         recipeMgrFriendlyByteBuf.writeVarInt(lootTables.size());
-        for (final Map.Entry<ResourceLocation, List<LootTableAnalyzer.LootDrop>> lootEntry : lootTables.entrySet())
+        for (final Map.Entry<ResourceLocation, List<LootTableAnalyzer.LootDrop>> lootEntry : new TreeMap<>(lootTables).entrySet())
         {
             recipeMgrFriendlyByteBuf.writeResourceLocation(lootEntry.getKey());
             recipeMgrFriendlyByteBuf.writeVarInt(lootEntry.getValue().size());
@@ -1,7 +1,7 @@
 package com.minecolonies.core.colony.crafting;
 
 import com.minecolonies.api.network.IMessage;
-import net.minecraft.client.Minecraft;
+import com.minecolonies.core.network.SyncSnapshot;
 import net.minecraft.network.FriendlyByteBuf;
 import net.minecraftforge.api.distmarker.Dist;
 import net.minecraftforge.api.distmarker.OnlyIn;
@@ -11,14 +11,14 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * The message used to synchronize crafter recipes from a server to a client.
+ * The message used to synchronize crafter recipes from a server to a client, sent when the client has no cached copy of the current snapshot.
  */
 public class CustomRecipeManagerMessage implements IMessage
 {
     /**
-     * The buffer with the data.
+     * The compressed snapshot of the recipes.
      */
-    private FriendlyByteBuf managerBuffer;
+    private SyncSnapshot snapshot;
 
     /**
      * Empty constructor used when registering the message
@@ -31,23 +31,23 @@ public class CustomRecipeManagerMessage implements IMessage
     /**
      * Add or Update a CustomRecipeManager on the client.
      *
-     * @param buf               the bytebuffer.
+     * @param snapshot the snapshot of the recipes.
      */
-    public CustomRecipeManagerMessage(final FriendlyByteBuf buf)
+    public CustomRecipeManagerMessage(final SyncSnapshot snapshot)
     {
-        this.managerBuffer = new FriendlyByteBuf(buf.copy());
+        this.snapshot = snapshot;
     }
 
     @Override
     public void fromBytes(@NotNull final FriendlyByteBuf buf)
     {
-        managerBuffer = new FriendlyByteBuf(buf.retain());
+        snapshot = SyncSnapshot.read(SyncSnapshot.Type.CUSTOM_RECIPES, buf);
     }
 
     @Override
     public void toBytes(@NotNull final FriendlyByteBuf buf)
     {
-        buf.writeBytes(managerBuffer);
+        snapshot.write(buf);
     }
 
     @Nullable
@@ -61,10 +61,7 @@ public class CustomRecipeManagerMessage implements IMessage
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        if (Minecraft.getInstance().level != null)
-        {
-            CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(managerBuffer);
-        }
-        managerBuffer.release();
+        snapshot.writeCache();
+        snapshot.apply();
     }
 }
\ No newline at end of file
@@ -8,7 +8,6 @@ import com.minecolonies.api.colony.colonyEvents.EventStatus;
 import com.minecolonies.api.colony.colonyEvents.IColonyRaidEvent;
 import com.minecolonies.api.colony.colonyEvents.IColonyStructureSpawnEvent;
 import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
-import com.minecolonies.api.entity.mobs.RaiderMobUtils;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.MessageUtils;
 import com.minecolonies.api.util.MessageUtils.MessagePriority;
@@ -163,6 +162,11 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
      */
     protected int spawnerThresholdKillTracker = 0;
 
+    /**
+     * Raiders waiting to be spawned.
+     */
+    private final RaiderSpawnQueue spawnQueue = new RaiderSpawnQueue();
+
     /**
      * Create a new ship based raid event.
      *
@@ -245,7 +249,7 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
         status = EventStatus.PROGRESSING;
         colony.getRaiderManager().setNightsSinceLastRaid(0);
 
-        if (spawners.size() <= 0 && raiders.size() == 0 && respawns.isEmpty())
+        if (spawners.size() <= 0 && raiders.size() == 0 && respawns.isEmpty() && spawnQueue.isEmpty())
         {
             status = EventStatus.WAITING;
             return;
@@ -260,7 +264,7 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
                 final BlockPos spawnPos = ShipBasedRaiderUtils.getLoadedPositionTowardsCenter(entry.getB(), colony, MAX_LANDING_DISTANCE, spawnPoint, MIN_CENTER_DISTANCE, 10, this.isUnderWater());
                 if (spawnPos != null)
                 {
-                    RaiderMobUtils.spawn(entry.getA(), 1, spawnPos, colony.getWorld(), colony, id);
+                    spawnQueue.add(entry.getA(), 1, spawnPos);
                 }
             }
             respawns.clear();
@@ -272,7 +276,7 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
                                        && colony.getWorld().getBlockState(spawner).getBlock() != Blocks.SPAWNER);
 
         // Spawns landing troops.
-        if (raiders.size() < spawners.size() * 2)
+        if (raiders.size() + spawnQueue.size() < spawners.size() * 2)
         {
             BlockPos spawnPos = ShipBasedRaiderUtils.getLoadedPositionTowardsCenter(spawnPoint, colony, MAX_LANDING_DISTANCE, spawnPoint, MIN_CENTER_DISTANCE, 10, this.isUnderWater());
             if (spawnPos != null)
@@ -283,9 +287,9 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
                     spawnPos = ShipBasedRaiderUtils.findSpawnPosOnShip(spawnPos, colony.getWorld(), 3);
                 }
 
-                RaiderMobUtils.spawn(getNormalRaiderType(), shipSize.normal, spawnPos, colony.getWorld(), colony, id);
-                RaiderMobUtils.spawn(getArcherRaiderType(), shipSize.archer, spawnPos, colony.getWorld(), colony, id);
-                RaiderMobUtils.spawn(getBossRaiderType(), shipSize.boss, spawnPos, colony.getWorld(), colony, id);
+                spawnQueue.add(getNormalRaiderType(), shipSize.normal, spawnPos);
+                spawnQueue.add(getArcherRaiderType(), shipSize.archer, spawnPos);
+                spawnQueue.add(getBossRaiderType(), shipSize.boss, spawnPos);
             }
         }
 
@@ -311,6 +315,12 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
         return false;
     }
 
+    @Override
+    public void spawnQueuedRaiders(final int budget)
+    {
+        spawnQueue.spawnNext(colony, id, budget);
+    }
+
     @Override
     public void setMercyEnd()
     {
@@ -322,6 +332,7 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
     {
         MessageUtils.format(PIRATES_SAILING_OFF_MESSAGE, BlockPosUtil.calcDirection(colony.getCenter(), spawnPoint).getLongText(), colony.getName())
           .sendTo(colony).forManagers();
+        spawnQueue.clear();
         for (final Entity entity : raiders.keySet())
         {
             entity.remove(Entity.RemovalReason.DISCARDED);
@@ -577,7 +588,7 @@ public abstract class AbstractShipRaidEvent implements IColonyRaidEvent, IColony
     {
         if (getStatus() == EventStatus.PROGRESSING)
         {
-            return !spawners.isEmpty() || !raiders.isEmpty() || !respawns.isEmpty();
+            return !spawners.isEmpty() || !raiders.isEmpty() || !respawns.isEmpty() || !spawnQueue.isEmpty();
         }
         return getStatus() == EventStatus.PROGRESSING ||getStatus() == EventStatus.PREPARING;
     }
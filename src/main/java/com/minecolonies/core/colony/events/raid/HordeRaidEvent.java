@@ -9,7 +9,6 @@ import com.minecolonies.api.colony.colonyEvents.IColonyRaidEvent;
 import com.minecolonies.api.entity.citizen.happiness.ExpirationBasedHappinessModifier;
 import com.minecolonies.api.entity.citizen.happiness.StaticHappinessSupplier;
 import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
-import com.minecolonies.api.entity.mobs.RaiderMobUtils;
 import com.minecolonies.api.sounds.RaidSounds;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.MessageUtils.MessagePriority;
@@ -144,6 +143,11 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
      */
     private List<BlockPos> wayPoints = new ArrayList<>();
 
+    /**
+     * Raiders waiting to be spawned.
+     */
+    private final RaiderSpawnQueue spawnQueue = new RaiderSpawnQueue();
+
     public HordeRaidEvent(IColony colony)
     {
         this.colony = colony;
@@ -228,7 +232,7 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
     }
 
     /**
-     * Spawn a specific horde.
+     * Queue a specific horde to be spawned over the next ticks.
      *
      * @param spawnPos        the pos to spawn them at.
      * @param colony          the colony to spawn them for.
@@ -239,9 +243,15 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
      */
     protected void spawnHorde(final BlockPos spawnPos, final IColony colony, final int id, final int numberOfBosses, final int numberOfArchers, final int numberOfRaiders)
     {
-        RaiderMobUtils.spawn(getNormalRaiderType(), numberOfRaiders, spawnPos, colony.getWorld(), colony, id);
-        RaiderMobUtils.spawn(getBossRaiderType(), numberOfBosses, spawnPos, colony.getWorld(), colony, id);
-        RaiderMobUtils.spawn(getArcherRaiderType(), numberOfArchers, spawnPos, colony.getWorld(), colony, id);
+        spawnQueue.add(getBossRaiderType(), numberOfBosses, spawnPos);
+        spawnQueue.add(getArcherRaiderType(), numberOfArchers, spawnPos);
+        spawnQueue.add(getNormalRaiderType(), numberOfRaiders, spawnPos);
+    }
+
+    @Override
+    public void spawnQueuedRaiders(final int budget)
+    {
+        spawnQueue.spawnNext(colony, id, budget);
     }
 
     @Override
@@ -288,6 +298,7 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
     @Override
     public void onFinish()
     {
+        spawnQueue.clear();
         for (final Entity entity : getEntities())
         {
             entity.remove(Entity.RemovalReason.DISCARDED);
@@ -444,19 +455,27 @@ public abstract class HordeRaidEvent implements IColonyRaidEvent, IColonyCampFir
                 final BlockPos spawnPos = ShipBasedRaiderUtils.getLoadedPositionTowardsCenter(entry.getB(), colony, MAX_RESPAWN_DEVIATION, spawnPoint, MIN_CENTER_DISTANCE, 10);
                 if (spawnPos != null)
                 {
-                    RaiderMobUtils.spawn(entry.getA(), 1, spawnPos, colony.getWorld(), colony, id);
+                    spawnQueue.add(entry.getA(), 1, spawnPos);
                 }
             }
             respawns.clear();
             return;
         }
 
-        if (boss.size() + archers.size() + normal.size() < horde.numberOfBosses + horde.numberOfRaiders + horde.numberOfArchers)
+        final int queuedBosses = spawnQueue.count(getBossRaiderType());
+        final int queuedArchers = spawnQueue.count(getArcherRaiderType());
+        final int queuedRaiders = spawnQueue.count(getNormalRaiderType());
+        if (boss.size() + archers.size() + normal.size() + spawnQueue.size() < horde.numberOfBosses + horde.numberOfRaiders + horde.numberOfArchers)
         {
             final BlockPos spawnPos = ShipBasedRaiderUtils.getLoadedPositionTowardsCenter(spawnPoint, colony, MAX_RESPAWN_DEVIATION, spawnPoint, MIN_CENTER_DISTANCE, 10);
             if (spawnPos != null)
             {
-                spawnHorde(spawnPos, colony, id, horde.numberOfBosses - boss.size(), horde.numberOfArchers - archers.size(), horde.numberOfRaiders - normal.size());
+                spawnHorde(spawnPos,
+                  colony,
+                  id,
+                  horde.numberOfBosses - boss.size() - queuedBosses,
+                  horde.numberOfArchers - archers.size() - queuedArchers,
+                  horde.numberOfRaiders - normal.size() - queuedRaiders);
             }
         }
 
@@ -47,6 +47,7 @@ import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.Vec3;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -202,6 +203,16 @@ public class RaidManager implements IRaiderManager
      */
     private long passingThroughRaidTime = 0;
 
+    /**
+     * The max amount of spawn points prepared ahead of a raid.
+     */
+    private static final int MAX_PREPARED_SPAWNS = 6;
+
+    /**
+     * Spawn points prepared during the day for the planned raid.
+     */
+    private final List<BlockPos> preparedSpawns = new ArrayList<>();
+
     /**
      * Creates the RaidManager for a colony.
      *
@@ -236,6 +247,10 @@ public class RaidManager implements IRaiderManager
         this.raidTonight = willRaid;
         this.nextForcedType = raidType;
         this.allowShips = allowShips;
+        if (!willRaid)
+        {
+            preparedSpawns.clear();
+        }
     }
 
     @Override
@@ -294,7 +309,11 @@ public class RaidManager implements IRaiderManager
         int retries = 0;
         for (int i = 0; i < raidCount; i++)
         {
-            final BlockPos targetSpawnPoint = calculateSpawnLocation();
+            BlockPos targetSpawnPoint = takePreparedSpawnLocation();
+            if (targetSpawnPoint == null)
+            {
+                targetSpawnPoint = calculateSpawnLocation();
+            }
             if (targetSpawnPoint == null || targetSpawnPoint.equals(colony.getCenter())
                   || !colony.getWorld().getWorldBorder().isWithinBounds(targetSpawnPoint))
             {
@@ -317,6 +336,7 @@ public class RaidManager implements IRaiderManager
         raidHistories.add(new RaidHistory(amount, colony.getWorld().getGameTime()));
         nightsSinceLastRaid = 0;
         raidTonight = false;
+        preparedSpawns.clear();
         amount = (int) Math.ceil((float) amount / spawnPoints.size());
 
         for (BlockPos targetSpawnPoint : spawnPoints)
@@ -544,6 +564,74 @@ public class RaidManager implements IRaiderManager
         return worldSpawnPos;
     }
 
+    @Override
+    public void prepareSpawnLocation()
+    {
+        if (!raidTonight || preparedSpawns.size() >= MAX_PREPARED_SPAWNS || colony.getWorld() == null)
+        {
+            return;
+        }
+
+        // idle colonies without loaded buildings are skipped quietly, the raid itself still reports them
+        boolean hasLoadedBuilding = false;
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), building.getPosition()))
+            {
+                hasLoadedBuilding = true;
+                break;
+            }
+        }
+
+        if (!hasLoadedBuilding)
+        {
+            return;
+        }
+
+        final BlockPos spawnPos = calculateSpawnLocation();
+        if (spawnPos != null && !spawnPos.equals(colony.getCenter()) && colony.getWorld().getWorldBorder().isWithinBounds(spawnPos))
+        {
+            preparedSpawns.add(spawnPos);
+        }
+    }
+
+    /**
+     * Take a random prepared spawn location which is still valid.
+     *
+     * @return the spawn location or null if there is none.
+     */
+    @Nullable
+    private BlockPos takePreparedSpawnLocation()
+    {
+        final Collection<IBuilding> buildings = colony.getBuildingManager().getBuildings().values();
+        while (!preparedSpawns.isEmpty())
+        {
+            final BlockPos spawnPos = preparedSpawns.remove(colony.getWorld().random.nextInt(preparedSpawns.size()));
+            if (WorldUtil.isEntityBlockLoaded(colony.getWorld(), spawnPos)
+                  && hasSpawnGround(spawnPos)
+                  && isValidSpawnPoint(buildings, spawnPos)
+                  && !isOtherColony(spawnPos.getX(), spawnPos.getZ()))
+            {
+                return spawnPos;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Check if a prepared spawn location can still be spawned at, as the terrain may have changed since it was calculated.
+     *
+     * @param spawnPos the spawn location.
+     * @return true if there is still ground, water or, with sky raiders, free air at the location.
+     */
+    private boolean hasSpawnGround(final BlockPos spawnPos)
+    {
+        final Level world = colony.getWorld();
+        return SOLID_AIR_POS_SELECTOR.test(world, spawnPos)
+                 || world.getBlockState(spawnPos).getBlock() == Blocks.WATER
+                 || (MineColonies.getConfig().getServer().skyRaiders.get() && DOUBLE_AIR_POS_SELECTOR.test(world, spawnPos));
+    }
+
     /**
      * Finds a spawnpoint randomly in a circular shape around the center Advances
      *
@@ -0,0 +1,122 @@
+package com.minecolonies.core.colony.events.raid;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.entity.mobs.RaiderMobUtils;
+import com.minecolonies.api.util.Tuple;
+import com.minecolonies.api.util.WorldUtil;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.entity.EntityType;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Queue of raiders a raid still has to spawn, so large raids spawn a few raiders per step instead of all of them in one tick.
+ * The queue is not saved, after a reload the raid spawns its missing raiders again.
+ */
+public class RaiderSpawnQueue
+{
+    /**
+     * Max deviation along one axis between raiders of the same group, like {@link RaiderMobUtils#spawn}.
+     */
+    private static final int MAX_GROUP_DEVIATION = 5;
+
+    /**
+     * The raiders left to spawn, with their spawn position.
+     */
+    private final Deque<Tuple<EntityType<?>, BlockPos>> pending = new ArrayDeque<>();
+
+    /**
+     * Queue a group of raiders around a position.
+     *
+     * @param entityType the raider type.
+     * @param amount     the amount of raiders.
+     * @param pos        the position to spawn them around.
+     */
+    public void add(final EntityType<?> entityType, final int amount, final BlockPos pos)
+    {
+        if (entityType == null || pos == null)
+        {
+            return;
+        }
+
+        int deviationX = 0;
+        int deviationZ = 0;
+        for (int i = 0; i < amount; i++)
+        {
+            pending.add(new Tuple<>(entityType, pos.offset(deviationX, 0, deviationZ)));
+            if (++deviationZ > MAX_GROUP_DEVIATION)
+            {
+                deviationZ = 0;
+                deviationX++;
+            }
+        }
+    }
+
+    /**
+     * Spawn the next raiders of the queue. Raiders whose position is not loaded anymore are dropped, the raid will respawn them as missing.
+     *
+     * @param colony  the colony of the raid.
+     * @param eventID the id of the raid.
+     * @param budget  the max amount of raiders to spawn.
+     */
+    public void spawnNext(@NotNull final IColony colony, final int eventID, final int budget)
+    {
+        for (int i = 0; i < budget && !pending.isEmpty(); i++)
+        {
+            final Tuple<EntityType<?>, BlockPos> next = pending.poll();
+            if (WorldUtil.isBlockLoaded(colony.getWorld(), next.getB()))
+            {
+                RaiderMobUtils.spawn(next.getA(), 1, next.getB(), colony.getWorld(), colony, eventID);
+            }
+        }
+    }
+
+    /**
+     * Count the queued raiders of a type.
+     *
+     * @param entityType the raider type.
+     * @return the amount.
+     */
+    public int count(final EntityType<?> entityType)
+    {
+        int count = 0;
+        for (final Tuple<EntityType<?>, BlockPos> entry : pending)
+        {
+            if (entry.getA() == entityType)
+            {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Get the amount of queued raiders.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return pending.size();
+    }
+
+    /**
+     * Check if there are no raiders left to spawn.
+     *
+     * @return true if so.
+     */
+    public boolean isEmpty()
+    {
+        return pending.isEmpty();
+    }
+
+    /**
+     * Drop all queued raiders.
+     */
+    public void clear()
+    {
+        pending.clear();
+    }
+}
@@ -457,4 +457,10 @@ public abstract class AbstractJob<AI extends AbstractAISkeleton<J> & ITickingSta
     {
         // Do Nothing.
     }
+
+    @Override
+    public void simulateOffscreenWork()
+    {
+        // Do Nothing.
+    }
 }
@@ -6,23 +6,40 @@ import net.minecraft.core.BlockPos;
 import net.minecraft.resources.ResourceLocation;
 import com.minecolonies.api.client.render.modeltype.ModModelTypes;
 import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.buildings.modules.ICraftingBuildingModule;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestSystemCrafterJobDataStore;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
 import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCrafting;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.IRecipeStorage;
+import com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState;
+import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.api.equipment.ModEquipmentTypes;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
+import com.minecolonies.core.colony.buildings.modules.CraftingWorkerBuildingModule;
 import com.minecolonies.core.entity.ai.workers.AbstractEntityAIBasic;
+import com.minecolonies.core.entity.ai.workers.crafting.AbstractEntityAICrafting;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraftforge.common.capabilities.ForgeCapabilities;
+import net.minecraftforge.items.IItemHandler;
 import org.jetbrains.annotations.NotNull;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
 
+import static com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateConstants.MAX_TICKRATE;
+import static com.minecolonies.api.util.constant.StatisticsConstants.ITEMS_CRAFTED;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 
 /**
@@ -31,6 +48,16 @@ import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
 public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? extends AbstractBuilding>, J extends AbstractJobCrafter<AI, J>>
   extends AbstractJob<AI, J>
 {
+    /**
+     * The states in which the worker AI is crafting, its progress is then only known to the AI.
+     */
+    private static final Set<IAIState> CRAFTING_STATES = Set.of(AIWorkerState.GET_RECIPE, AIWorkerState.QUERY_ITEMS, AIWorkerState.CRAFT);
+
+    /**
+     * Game ticks the worker spends gathering the ingredients of one recipe execution in a level 1 building.
+     */
+    private static final int OFFSCREEN_GATHERING_TICKS = 100;
+
     /**
      * The Token of the data store which belongs to this job.
      */
@@ -51,6 +78,11 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
      */
     private int progress = 0;
 
+    /**
+     * Game ticks of offscreen work that were not used up by a recipe execution yet.
+     */
+    private int offscreenWorkTicks = 0;
+
     /**
      * Instantiates the job for the crafter.
      *
@@ -221,10 +253,95 @@ public abstract class AbstractJobCrafter<AI extends AbstractEntityAIBasic<J, ? e
         }
 
         final IToken<?> current = getTaskQueueFromDataStore().getFirst();
+        final IRequest<?> request = getColony().getRequestManager().getRequestForToken(current);
+        if (successful && request != null && request.getRequest() instanceof PublicCrafting crafting)
+        {
+            // the crafted output may also satisfy other waiting requests
+            getColony().getRequestManager().onItemAvailabilityChanged(crafting.getStack());
+        }
 
         getColony().getRequestManager().updateRequestState(current, successful ? RequestState.RESOLVED : RequestState.FAILED);
     }
 
+    @Override
+    public void simulateOffscreenWork()
+    {
+        final IRequest<? extends PublicCrafting> currentTask = getCurrentTask();
+        if (currentTask == null
+              || (getWorkerAI() != null && CRAFTING_STATES.contains(getWorkerAI().getState()))
+              || !(getWorkBuilding() instanceof AbstractBuilding building)
+              || !(getWorkModule() instanceof CraftingWorkerBuildingModule workModule)
+              || !WorldUtil.isBlockLoaded(getColony().getWorld(), building.getPosition()))
+        {
+            offscreenWorkTicks = 0;
+            return;
+        }
+
+        final ICraftingBuildingModule module = building.getCraftingModuleForRecipe(currentTask.getRequest().getRecipeID());
+        final IItemHandler buildingHandler = building.getCapability(ForgeCapabilities.ITEM_HANDLER, null).resolve().orElse(null);
+        if (module == null || buildingHandler == null)
+        {
+            offscreenWorkTicks = 0;
+            return;
+        }
+
+        final IRecipeStorage storage =
+          module.getFirstFulfillableRecipe(stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, currentTask.getRequest().getStack()), 1, false);
+        if (storage == null || storage.getRequiredTool() != ModEquipmentTypes.none.get())
+        {
+            offscreenWorkTicks = 0;
+            return;
+        }
+
+        if (maxCraftingCount == 0)
+        {
+            maxCraftingCount = currentTask.getRequest().getCount();
+            craftCounter = 0;
+        }
+
+        // The worker crafts at the speed of its skill and loses some time gathering the ingredients, less so in higher level buildings.
+        final int ticksPerCraft = AbstractEntityAICrafting.getTicksPerCraft(getCitizen().getCitizenSkillHandler().getLevel(workModule.getCraftSpeedSkill()))
+                                    + OFFSCREEN_GATHERING_TICKS / Math.max(1, building.getBuildingLevel());
+        offscreenWorkTicks = Math.min(offscreenWorkTicks + MAX_TICKRATE, MAX_TICKRATE + ticksPerCraft);
+        final int allowedCrafts = Math.min(offscreenWorkTicks / ticksPerCraft, maxCraftingCount - craftCounter);
+
+        // Like the worker AI, the output goes into the citizen inventory, so the AI picks up the progress when the citizen is loaded again.
+        final List<IItemHandler> handlers = ImmutableList.of(getCitizen().getInventory(), buildingHandler);
+        int crafted = 0;
+        while (crafted < allowedCrafts && storage.fullfillRecipe(getColony().getWorld(), handlers))
+        {
+            currentTask.addDelivery(storage.getPrimaryOutput());
+            crafted++;
+        }
+
+        offscreenWorkTicks = crafted < allowedCrafts ? 0 : offscreenWorkTicks - crafted * ticksPerCraft;
+        if (crafted > 0)
+        {
+            craftCounter += crafted;
+            progress = 0;
+            getColony().getStatisticsManager().incrementBy(ITEMS_CRAFTED, crafted, getColony().getDay());
+        }
+
+        if (craftCounter < maxCraftingCount)
+        {
+            return;
+        }
+
+        // The request is resolved from the building, so the output of this request has to be moved there.
+        final Predicate<ItemStack> isOutput = stack -> ItemStackUtils.compareItemStacksIgnoreStackSize(stack, storage.getPrimaryOutput());
+        final int output = Math.min(craftCounter * storage.getPrimaryOutput().getCount(), InventoryUtils.getItemCountInItemHandler(getCitizen().getInventory(), isOutput));
+        if (output > 0 && !InventoryUtils.transferXOfFirstSlotInItemHandlerWithIntoNextFreeSlotInItemHandler(getCitizen().getInventory(), isOutput, output, buildingHandler))
+        {
+            return;
+        }
+
+        module.improveRecipe(storage, craftCounter, getCitizen());
+        maxCraftingCount = 0;
+        progress = 0;
+        craftCounter = 0;
+        finishRequest(true);
+    }
+
     /**
      * Called when a task that is being scheduled is being canceled.
      *
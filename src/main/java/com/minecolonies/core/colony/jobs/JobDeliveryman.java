@@ -8,6 +8,7 @@ import net.minecraft.resources.ResourceLocation;
 import com.minecolonies.api.client.render.modeltype.ModModelTypes;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import com.minecolonies.api.colony.managers.interfaces.ITravelTimeManager;
 import com.minecolonies.api.colony.requestsystem.StandardFactoryController;
 import com.minecolonies.api.colony.requestsystem.data.IRequestSystemDeliveryManJobDataStore;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
@@ -19,7 +20,6 @@ import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.IDelive
 import com.minecolonies.api.colony.requestsystem.requestable.deliveryman.Pickup;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
-import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.Tuple;
 import com.minecolonies.api.util.constant.NbtTagConstants;
@@ -572,7 +572,7 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
         score += getPickUpRequestScore(source, comparing);
 
         // Worse score the more requests we have to overtake
-        score += getTaskQueue().size() - comparingIndex;
+        score += getTaskQueueFromDataStore().size() - comparingIndex;
 
         return score;
     }
@@ -622,17 +622,18 @@ public class JobDeliveryman extends AbstractJob<EntityAIWorkDeliveryman, JobDeli
      * @param target2 target of second request
      * @return closeness factor, representing how close these positions are to eachother. The lower the closer they are.
      */
-    public static double getClosenessFactorTo(final BlockPos source1, final BlockPos target1, final BlockPos source2, final BlockPos target2)
+    public double getClosenessFactorTo(final BlockPos source1, final BlockPos target1, final BlockPos source2, final BlockPos target2)
     {
-        final double newLength = BlockPosUtil.getDistance(target1, source1);
+        final ITravelTimeManager travelTimes = getColony().getTravelTimeManager();
+        final double newLength = travelTimes.getWalkingDistance(target1, source1);
         if (newLength <= 0)
         {
             // Return a relatively high value(bad) when the distance is bad.
             return 10;
         }
 
-        final double targetCloseness = BlockPosUtil.getDistance(target1, target2) / newLength;
-        final double sourceCloseness = BlockPosUtil.getDistance(source1, source2) / newLength;
+        final double targetCloseness = travelTimes.getWalkingDistance(target1, target2) / newLength;
+        final double sourceCloseness = travelTimes.getWalkingDistance(source1, source2) / newLength;
 
         return (targetCloseness + sourceCloseness) * 5;
     }
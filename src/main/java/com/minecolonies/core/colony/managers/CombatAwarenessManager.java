@@ -0,0 +1,184 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.managers.interfaces.ICombatAwarenessManager;
+import it.unimi.dsi.fastutil.longs.Long2BooleanOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import net.minecraft.core.SectionPos;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.LivingEntity;
+import net.minecraft.world.entity.Mob;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Caches entity lookups per chunk section and line of sight checks per entity pair for a few ticks, so guards and raiders fighting in the same area share them.
+ * The sections of a queried area which are not cached yet are filled by one lookup over the whole area.
+ */
+public class CombatAwarenessManager implements ICombatAwarenessManager
+{
+    /**
+     * Ticks the cached entities and line of sight results stay valid.
+     */
+    private static final int REFRESH_INTERVAL = 10;
+
+    /**
+     * Distance entities may stick out of their section, matching the vanilla entity lookup.
+     */
+    private static final double ENTITY_MARGIN = 2.0D;
+
+    /**
+     * The colony the manager belongs to.
+     */
+    private final IColony colony;
+
+    /**
+     * The living entities by the chunk section their position is in.
+     */
+    private final Long2ObjectOpenHashMap<List<LivingEntity>> entitiesBySection = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The line of sight results, keyed by the ids of the looking and the target entity.
+     */
+    private final Long2BooleanOpenHashMap lineOfSight = new Long2BooleanOpenHashMap();
+
+    /**
+     * Game time until which the cached values are valid.
+     */
+    private long validUntil = 0;
+
+    /**
+     * Creates the manager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public CombatAwarenessManager(final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    @Override
+    public List<LivingEntity> getEntitiesInArea(@NotNull final AABB area)
+    {
+        refresh();
+
+        final int minX = SectionPos.blockToSectionCoord(Mth.floor(area.minX - ENTITY_MARGIN));
+        final int minY = SectionPos.blockToSectionCoord(Mth.floor(area.minY - ENTITY_MARGIN));
+        final int minZ = SectionPos.blockToSectionCoord(Mth.floor(area.minZ - ENTITY_MARGIN));
+        final int maxX = SectionPos.blockToSectionCoord(Mth.floor(area.maxX + ENTITY_MARGIN));
+        final int maxY = SectionPos.blockToSectionCoord(Mth.floor(area.maxY + ENTITY_MARGIN));
+        final int maxZ = SectionPos.blockToSectionCoord(Mth.floor(area.maxZ + ENTITY_MARGIN));
+
+        final LongSet missingSections = new LongOpenHashSet();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int y = minY; y <= maxY; y++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    if (!entitiesBySection.containsKey(SectionPos.asLong(x, y, z)))
+                    {
+                        missingSections.add(SectionPos.asLong(x, y, z));
+                    }
+                }
+            }
+        }
+
+        if (!missingSections.isEmpty())
+        {
+            lookupSections(minX, minY, minZ, maxX, maxY, maxZ, missingSections);
+        }
+
+        final List<LivingEntity> result = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int y = minY; y <= maxY; y++)
+            {
+                for (int z = minZ; z <= maxZ; z++)
+                {
+                    for (final LivingEntity entity : entitiesBySection.get(SectionPos.asLong(x, y, z)))
+                    {
+                        if (entity.isAlive() && entity.getBoundingBox().intersects(area))
+                        {
+                            result.add(entity);
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public boolean hasLineOfSight(@NotNull final Mob user, @NotNull final LivingEntity target)
+    {
+        refresh();
+
+        final long key = ((long) user.getId() << 32) | (target.getId() & 0xFFFFFFFFL);
+        if (lineOfSight.containsKey(key))
+        {
+            return lineOfSight.get(key);
+        }
+
+        final boolean canSee = user.getSensing().hasLineOfSight(target);
+        lineOfSight.put(key, canSee);
+        return canSee;
+    }
+
+    /**
+     * Look up the living entities of a range of chunk sections with one query and bucket them by the section their position is in. Only the missing sections are filled,
+     * the others are cached already.
+     *
+     * @param minX            the min section x.
+     * @param minY            the min section y.
+     * @param minZ            the min section z.
+     * @param maxX            the max section x.
+     * @param maxY            the max section y.
+     * @param maxZ            the max section z.
+     * @param missingSections the sections of the range which are not cached yet.
+     */
+    private void lookupSections(final int minX, final int minY, final int minZ, final int maxX, final int maxY, final int maxZ, final LongSet missingSections)
+    {
+        final LongIterator iterator = missingSections.iterator();
+        while (iterator.hasNext())
+        {
+            entitiesBySection.put(iterator.nextLong(), new ArrayList<>());
+        }
+
+        final AABB sections = new AABB(SectionPos.sectionToBlockCoord(minX),
+          SectionPos.sectionToBlockCoord(minY),
+          SectionPos.sectionToBlockCoord(minZ),
+          SectionPos.sectionToBlockCoord(maxX + 1),
+          SectionPos.sectionToBlockCoord(maxY + 1),
+          SectionPos.sectionToBlockCoord(maxZ + 1));
+
+        for (final LivingEntity entity : colony.getWorld().getEntitiesOfClass(LivingEntity.class, sections))
+        {
+            final long section = SectionPos.asLong(entity.blockPosition());
+            if (missingSections.contains(section))
+            {
+                entitiesBySection.get(section).add(entity);
+            }
+        }
+    }
+
+    /**
+     * Clear the cached values once they expired.
+     */
+    private void refresh()
+    {
+        final long gameTime = colony.getWorld().getGameTime();
+        if (gameTime >= validUntil)
+        {
+            entitiesBySection.clear();
+            lineOfSight.clear();
+            validUntil = gameTime + REFRESH_INTERVAL;
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.managers.interfaces.IDroppedItemManager;
+import com.minecolonies.api.util.ColonyUtils;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.util.Mth;
+import net.minecraft.world.entity.item.ItemEntity;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.NO_COLONY_ID;
+
+/**
+ * Keeps the item entities in the loaded chunks of a colony in a per chunk grid, so citizens don't have to query the world for them. Item entities are only registered
+ * when they join the world in a chunk claimed by a colony, and are handed to the colony owning the chunk they move to. Items outside of colonies are not tracked at all.
+ * Only accessed from the server thread.
+ */
+public class DroppedItemManager implements IDroppedItemManager
+{
+    /**
+     * The colony the manager belongs to.
+     */
+    private final IColony colony;
+
+    /**
+     * The tracked items, by chunk.
+     */
+    private final Long2ObjectOpenHashMap<List<ItemEntity>> itemsByChunk = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The chunk each tracked item is stored in.
+     */
+    private final Object2LongOpenHashMap<ItemEntity> chunkOfItem = new Object2LongOpenHashMap<>();
+
+    /**
+     * Creates the manager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public DroppedItemManager(final IColony colony)
+    {
+        this.colony = colony;
+    }
+
+    /**
+     * Start tracking an item entity which joined a level, if it is in a chunk claimed by a colony.
+     *
+     * @param item the item entity.
+     */
+    public static void onItemJoinedLevel(@NotNull final ItemEntity item)
+    {
+        final IColony colony = getOwningColony(item);
+        if (colony != null)
+        {
+            colony.getDroppedItemManager().onItemAdded(item);
+        }
+    }
+
+    /**
+     * Stop tracking an item entity which left its level. Items which moved to another colony since the last colony tick are dropped on that tick instead.
+     *
+     * @param item the item entity.
+     */
+    public static void onItemLeftLevel(@NotNull final ItemEntity item)
+    {
+        final IColony colony = getOwningColony(item);
+        if (colony != null)
+        {
+            colony.getDroppedItemManager().onItemRemoved(item);
+        }
+    }
+
+    /**
+     * Get the colony claiming the chunk an item entity is in.
+     *
+     * @param item the item entity.
+     * @return the colony or null if the chunk is not loaded or not claimed.
+     */
+    @Nullable
+    private static IColony getOwningColony(@NotNull final ItemEntity item)
+    {
+        final LevelChunk chunk = item.level().getChunkSource().getChunkNow(item.getBlockX() >> 4, item.getBlockZ() >> 4);
+        if (chunk == null)
+        {
+            return null;
+        }
+
+        final int colonyId = ColonyUtils.getOwningColony(chunk);
+        return colonyId == NO_COLONY_ID ? null : IColonyManager.getInstance().getColonyByWorld(colonyId, item.level());
+    }
+
+    @Override
+    public void onItemAdded(@NotNull final ItemEntity item)
+    {
+        if (chunkOfItem.containsKey(item))
+        {
+            return;
+        }
+
+        final long chunk = ChunkPos.asLong(item.getBlockX() >> 4, item.getBlockZ() >> 4);
+        chunkOfItem.put(item, chunk);
+        itemsByChunk.computeIfAbsent(chunk, c -> new ArrayList<>()).add(item);
+    }
+
+    @Override
+    public void onItemRemoved(@NotNull final ItemEntity item)
+    {
+        if (chunkOfItem.containsKey(item))
+        {
+            removeFromChunk(item, chunkOfItem.removeLong(item));
+        }
+    }
+
+    @Override
+    @Nullable
+    public List<ItemEntity> getItemsInArea(@NotNull final AABB area)
+    {
+        final int minX = Mth.floor(area.minX) >> 4;
+        final int minZ = Mth.floor(area.minZ) >> 4;
+        final int maxX = Mth.floor(area.maxX) >> 4;
+        final int maxZ = Mth.floor(area.maxZ) >> 4;
+
+        final List<ItemEntity> result = new ArrayList<>();
+        for (int x = minX; x <= maxX; x++)
+        {
+            for (int z = minZ; z <= maxZ; z++)
+            {
+                final long chunk = ChunkPos.asLong(x, z);
+                if (!colony.getLoadedChunks().contains(chunk))
+                {
+                    return null;
+                }
+
+                final List<ItemEntity> items = itemsByChunk.get(chunk);
+                if (items == null)
+                {
+                    continue;
+                }
+
+                for (final ItemEntity item : items)
+                {
+                    // the grid is only updated once a second, so check the current state of the item
+                    if (item.isAlive() && item.level() == colony.getWorld() && item.getBoundingBox().intersects(area))
+                    {
+                        result.add(item);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void onColonyTick(@NotNull final IColony colony)
+    {
+        final List<ItemEntity> left = new ArrayList<>();
+        final ObjectIterator<Object2LongMap.Entry<ItemEntity>> iterator = chunkOfItem.object2LongEntrySet().fastIterator();
+        while (iterator.hasNext())
+        {
+            final Object2LongMap.Entry<ItemEntity> entry = iterator.next();
+            final ItemEntity item = entry.getKey();
+            final long oldChunk = entry.getLongValue();
+            if (!item.isAlive())
+            {
+                removeFromChunk(item, oldChunk);
+                iterator.remove();
+                continue;
+            }
+
+            final long chunk = ChunkPos.asLong(item.getBlockX() >> 4, item.getBlockZ() >> 4);
+            if (chunk == oldChunk)
+            {
+                continue;
+            }
+
+            removeFromChunk(item, oldChunk);
+            if (colony.getLoadedChunks().contains(chunk))
+            {
+                entry.setValue(chunk);
+                itemsByChunk.computeIfAbsent(chunk, c -> new ArrayList<>()).add(item);
+            }
+            else
+            {
+                iterator.remove();
+                left.add(item);
+            }
+        }
+
+        // items which left the colony may now be in another colony
+        for (final ItemEntity item : left)
+        {
+            onItemJoinedLevel(item);
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        itemsByChunk.clear();
+        chunkOfItem.clear();
+    }
+
+    /**
+     * Remove an item from the list of its chunk.
+     *
+     * @param item  the item.
+     * @param chunk the chunk it is stored in.
+     */
+    private void removeFromChunk(final ItemEntity item, final long chunk)
+    {
+        final List<ItemEntity> items = itemsByChunk.get(chunk);
+        if (items != null)
+        {
+            items.remove(item);
+            if (items.isEmpty())
+            {
+                itemsByChunk.remove(chunk);
+            }
+        }
+    }
+}
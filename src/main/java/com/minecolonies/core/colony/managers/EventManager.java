@@ -4,10 +4,12 @@ import com.minecolonies.api.MinecoloniesAPIProxy;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.colonyEvents.IColonyEntitySpawnEvent;
 import com.minecolonies.api.colony.colonyEvents.IColonyEvent;
+import com.minecolonies.api.colony.colonyEvents.IColonyRaidEvent;
 import com.minecolonies.api.colony.colonyEvents.registry.ColonyEventTypeRegistryEntry;
 import com.minecolonies.api.colony.managers.interfaces.IEventManager;
 import com.minecolonies.api.colony.managers.interfaces.IEventStructureManager;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.core.MineColonies;
 import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.nbt.CompoundTag;
@@ -211,6 +213,19 @@ public class EventManager implements IEventManager
         }
     }
 
+    @Override
+    public void spawnQueuedRaiders()
+    {
+        final int budget = MineColonies.getConfig().getServer().raiderSpawnsPerStep.get();
+        for (final IColonyEvent event : events.values())
+        {
+            if (event instanceof IColonyRaidEvent raidEvent && event.getStatus() != DONE && event.getStatus() != CANCELED)
+            {
+                raidEvent.spawnQueuedRaiders(budget);
+            }
+        }
+    }
+
     @Override
     public Map<Integer, IColonyEvent> getEvents()
     {
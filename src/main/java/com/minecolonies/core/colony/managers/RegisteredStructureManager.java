@@ -451,7 +451,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         {
             if (building.getBuildingLevel() > 0 && building.getTileEntity() != null)
             {
-                final double tempDist = building.getPosition().distSqr(pos);
+                final double tempDist = colony.getTravelTimeManager().getWalkingDistance(building.getPosition(), pos);
                 if (wareHouse == null || tempDist < dist)
                 {
                     dist = tempDist;
@@ -591,6 +591,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
                 }
 
                 colony.getRequestManager().onProviderAddedToColony(building);
+                colony.getTravelTimeManager().onBuildingChanged(building.getID());
 
                 setMaxChunk(building);
             }
@@ -658,6 +659,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
 
         colony.getRequestManager().onProviderRemovedFromColony(building);
         colony.getRequestManager().onRequesterRemovedFromColony(building.getRequester());
+        colony.getTravelTimeManager().onBuildingChanged(building.getID());
 
         colony.getCitizenManager().calculateMaxCitizens();
     }
@@ -900,6 +902,7 @@ public class RegisteredStructureManager implements IRegisteredStructureManager
         if (building != null)
         {
             colony.getCitizenManager().calculateMaxCitizens();
+            colony.getTravelTimeManager().onBuildingChanged(building.getID());
             markBuildingsDirty();
             QuestObjectiveEventHandler.onBuildingUpgradeComplete(building, level);
         }
@@ -0,0 +1,198 @@
+package com.minecolonies.core.colony.managers;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.managers.interfaces.ITravelTimeManager;
+import com.minecolonies.api.util.BlockPosUtil;
+import com.minecolonies.api.util.Tuple;
+import com.minecolonies.core.entity.pathfinding.Pathfinding;
+import com.minecolonies.core.entity.pathfinding.pathjobs.PathJobMoveToLocation;
+import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
+import it.unimi.dsi.fastutil.objects.Object2DoubleOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Lazily computes and caches the walking distance between the buildings of a colony, using background path jobs.
+ */
+public class TravelTimeManager implements ITravelTimeManager
+{
+    /**
+     * Max amount of path jobs running at the same time for one colony.
+     */
+    private static final int MAX_RUNNING_JOBS = 2;
+
+    /**
+     * Additional node range for the path jobs.
+     */
+    private static final int PATH_RANGE = 200;
+
+    /**
+     * Factor applied to the straight line distance of buildings which can't reach each other.
+     */
+    private static final int UNREACHABLE_FACTOR = 4;
+
+    /**
+     * Lifetime of the cached distances, in ticks, after which they're recomputed to catch terrain changes. One minecraft day.
+     */
+    private static final long CACHE_LIFETIME = 24000;
+
+    /**
+     * The colony the manager belongs to.
+     */
+    private final IColony colony;
+
+    /**
+     * The known walking distances, keyed by the ordered pair of building ids.
+     */
+    private final Object2DoubleOpenHashMap<Tuple<BlockPos, BlockPos>> distances = new Object2DoubleOpenHashMap<>();
+
+    /**
+     * Building pairs waiting for their walking distance to be computed.
+     */
+    private final Set<Tuple<BlockPos, BlockPos>> pending = new LinkedHashSet<>();
+
+    /**
+     * Currently running path jobs.
+     */
+    private final Map<Tuple<BlockPos, BlockPos>, PathResult<?>> running = new HashMap<>();
+
+    /**
+     * The game time the cache was last cleared at.
+     */
+    private long lastClear = 0;
+
+    /**
+     * Creates the manager for a colony.
+     *
+     * @param colony the colony.
+     */
+    public TravelTimeManager(final IColony colony)
+    {
+        this.colony = colony;
+        distances.defaultReturnValue(-1);
+    }
+
+    @Override
+    public double getWalkingDistance(@NotNull final BlockPos from, @NotNull final BlockPos to)
+    {
+        final Tuple<BlockPos, BlockPos> key = getKey(from, to);
+        final double distance = distances.getDouble(key);
+        if (distance >= 0)
+        {
+            return distance;
+        }
+
+        if (!from.equals(to) && !running.containsKey(key) && colony.getBuildingManager().getBuilding(from) != null && colony.getBuildingManager().getBuilding(to) != null)
+        {
+            pending.add(key);
+        }
+        return BlockPosUtil.getDistance(from, to);
+    }
+
+    @Override
+    public void onBuildingChanged(@NotNull final BlockPos building)
+    {
+        distances.keySet().removeIf(key -> key.getA().equals(building) || key.getB().equals(building));
+        pending.removeIf(key -> key.getA().equals(building) || key.getB().equals(building));
+        for (final Iterator<Map.Entry<Tuple<BlockPos, BlockPos>, PathResult<?>>> iterator = running.entrySet().iterator(); iterator.hasNext(); )
+        {
+            final Map.Entry<Tuple<BlockPos, BlockPos>, PathResult<?>> entry = iterator.next();
+            if (entry.getKey().getA().equals(building) || entry.getKey().getB().equals(building))
+            {
+                entry.getValue().cancel();
+                iterator.remove();
+            }
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        distances.clear();
+    }
+
+    @Override
+    public void onColonyTick(@NotNull final IColony colony)
+    {
+        for (final Iterator<Map.Entry<Tuple<BlockPos, BlockPos>, PathResult<?>>> iterator = running.entrySet().iterator(); iterator.hasNext(); )
+        {
+            final Map.Entry<Tuple<BlockPos, BlockPos>, PathResult<?>> entry = iterator.next();
+            final PathResult<?> result = entry.getValue();
+            if (!result.isDone())
+            {
+                continue;
+            }
+
+            final double straightDistance = BlockPosUtil.getDistance(entry.getKey().getA(), entry.getKey().getB());
+            if (result.isPathReachingDestination() && result.hasPath())
+            {
+                distances.put(entry.getKey(), Math.max(straightDistance, getLength(result.getPath())));
+            }
+            else
+            {
+                distances.put(entry.getKey(), straightDistance * UNREACHABLE_FACTOR);
+            }
+            iterator.remove();
+        }
+
+        final long gameTime = colony.getWorld().getGameTime();
+        if (gameTime - lastClear > CACHE_LIFETIME)
+        {
+            lastClear = gameTime;
+            clear();
+        }
+
+        for (final Iterator<Tuple<BlockPos, BlockPos>> iterator = pending.iterator(); iterator.hasNext() && running.size() < MAX_RUNNING_JOBS; )
+        {
+            final Tuple<BlockPos, BlockPos> key = iterator.next();
+            iterator.remove();
+
+            final IBuilding start = colony.getBuildingManager().getBuilding(key.getA());
+            final IBuilding end = colony.getBuildingManager().getBuilding(key.getB());
+            if (start == null || end == null)
+            {
+                continue;
+            }
+
+            final PathJobMoveToLocation job = new PathJobMoveToLocation(colony.getWorld(), start.getStandingPosition(), end.getStandingPosition(), PATH_RANGE, null);
+            running.put(key, job.getResult());
+            Pathfinding.enqueue(job);
+        }
+    }
+
+    /**
+     * Get the walked length of a path, summing the distances between its nodes.
+     *
+     * @param path the path.
+     * @return the length in blocks.
+     */
+    private static double getLength(final Path path)
+    {
+        double length = 0;
+        for (int i = 1; i < path.getNodeCount(); i++)
+        {
+            length += path.getNode(i - 1).distanceTo(path.getNode(i));
+        }
+        return length;
+    }
+
+    /**
+     * Get the cache key for a pair of positions, independent of their order.
+     *
+     * @param from the first position.
+     * @param to   the second position.
+     * @return the key.
+     */
+    private static Tuple<BlockPos, BlockPos> getKey(final BlockPos from, final BlockPos to)
+    {
+        return from.compareTo(to) <= 0 ? new Tuple<>(from.immutable(), to.immutable()) : new Tuple<>(to.immutable(), from.immutable());
+    }
+}
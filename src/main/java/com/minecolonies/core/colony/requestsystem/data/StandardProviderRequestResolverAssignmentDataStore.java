@@ -97,9 +97,7 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
                 CompoundTag entryCompound = new CompoundTag();
 
                 entryCompound.put(NbtTagConstants.TAG_TOKEN, controller.serialize(t));
-                entryCompound.put(NbtTagConstants.TAG_LIST, standardProviderRequestResolverAssignmentDataStore.assignments.get(t).stream()
-                                                              .map(StandardFactoryController.getInstance()::serialize)
-                                                              .collect(NBTUtils.toListNBT()));
+                NBTUtils.writeTokens(entryCompound, standardProviderRequestResolverAssignmentDataStore.assignments.get(t));
 
                 return entryCompound;
             }).collect(NBTUtils.toListNBT()));
@@ -115,9 +113,7 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
             Map<IToken<?>, Collection<IToken<?>>> map = NBTUtils.streamCompound(nbt.getList(NbtTagConstants.TAG_LIST, Tag.TAG_COMPOUND))
                                                           .map(CompoundTag -> {
                                                               final IToken<?> elementToken = controller.deserialize(CompoundTag.getCompound(NbtTagConstants.TAG_TOKEN));
-                                                              final Collection<IToken<?>> elements = NBTUtils.streamCompound(CompoundTag.getList(NbtTagConstants.TAG_LIST,
-                                                                Tag.TAG_COMPOUND)).map(elementCompound -> (IToken<?>) controller.deserialize(elementCompound))
-                                                                                                       .collect(Collectors.toList());
+                                                              final Collection<IToken<?>> elements = NBTUtils.readTokens(CompoundTag);
 
                                                               return new Tuple<>(elementToken, elements);
                                                           }).collect(Collectors.toMap(t -> t.getA(), t -> t.getB()));
@@ -22,9 +22,12 @@ import net.minecraft.util.Tuple;
 
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -34,8 +37,9 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
  */
 public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDataStore
 {
-    private       IToken<?>                     id;
-    private final BiMap<IToken<?>, IRequest<?>> map;
+    private       IToken<?>                          id;
+    private final BiMap<IToken<?>, IRequest<?>>      map;
+    private final Map<IToken<?>, Set<IToken<?>>>     requesterIndex = new HashMap<>();
 
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
@@ -43,6 +47,7 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
     {
         this.id = id;
         this.map = map;
+        map.values().forEach(this::addToIndex);
     }
 
     public StandardRequestIdentitiesDataStore()
@@ -57,6 +62,50 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         return map;
     }
 
+    @Override
+    public void add(final IRequest<?> request)
+    {
+        map.put(request.getId(), request);
+        addToIndex(request);
+    }
+
+    @Override
+    public void remove(final IToken<?> token)
+    {
+        final IRequest<?> request = map.remove(token);
+        if (request == null)
+        {
+            return;
+        }
+
+        final Set<IToken<?>> requests = requesterIndex.get(request.getRequester().getId());
+        if (requests != null)
+        {
+            requests.remove(token);
+            if (requests.isEmpty())
+            {
+                requesterIndex.remove(request.getRequester().getId());
+            }
+        }
+    }
+
+    @Override
+    public Collection<IToken<?>> getRequestsMadeBy(final IToken<?> requesterId)
+    {
+        final Set<IToken<?>> requests = requesterIndex.get(requesterId);
+        return requests == null ? Collections.emptySet() : Collections.unmodifiableSet(requests);
+    }
+
+    /**
+     * Add a request to the requester index.
+     *
+     * @param request the request to add.
+     */
+    private void addToIndex(final IRequest<?> request)
+    {
+        requesterIndex.computeIfAbsent(request.getRequester().getId(), requesterId -> new HashSet<>()).add(request.getId());
+    }
+
     @Override
     public IToken<?> getId()
     {
@@ -113,7 +162,7 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
                 }
                 catch (final Exception e)
                 {
-                    standardRequestIdentitiesDataStore.getIdentities().remove(entry.getKey());
+                    standardRequestIdentitiesDataStore.remove(entry.getKey());
                     Log.getLogger().error(e);
                 }
             }
@@ -69,7 +69,7 @@ public class RequestHandler implements IRequestHandler
 
         manager.log("Registering request: " + request);
 
-        manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.getRequestIdentitiesDataStore().add(request);
     }
 
     /**
@@ -401,7 +401,7 @@ public class RequestHandler implements IRequestHandler
 
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
-            manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.getRequestIdentitiesDataStore().remove(token);
             return;
         }
 
@@ -570,18 +570,15 @@ public class RequestHandler implements IRequestHandler
             }
         }
 
-        manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.getRequestIdentitiesDataStore().remove(token);
     }
 
     @Override
     public void removeRequester(final IRequester requester)
     {
-        for (final IRequest<?> req : new ArrayList<>(manager.getRequestIdentitiesDataStore().getIdentities().values()))
+        for (final IToken<?> token : new ArrayList<>(manager.getRequestIdentitiesDataStore().getRequestsMadeBy(requester.getId())))
         {
-            if (req.getRequester().getId().equals(requester.getId()))
-            {
-                onRequestCancelled(req.getId());
-            }
+            onRequestCancelled(token);
         }
     }
 
@@ -624,10 +621,10 @@ public class RequestHandler implements IRequestHandler
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
         return manager.getRequestIdentitiesDataStore()
-          .getIdentities()
-          .values()
+          .getRequestsMadeBy(requester.getId())
           .stream()
-          .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
+          .map(this::getRequestOrNull)
+          .filter(Objects::nonNull)
           .collect(Collectors.toList());
     }
 }
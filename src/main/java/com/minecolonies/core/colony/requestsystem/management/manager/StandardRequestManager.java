@@ -11,6 +11,7 @@ import com.minecolonies.api.colony.requestsystem.management.*;
 import com.minecolonies.api.colony.requestsystem.management.update.UpdateType;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.request.RequestState;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
@@ -32,7 +33,11 @@ import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -112,6 +117,16 @@ public class StandardRequestManager implements IStandardRequestManager
      */
     private boolean enableLogging;
 
+    /**
+     * Items which changed availability since the last tick.
+     */
+    private final List<ItemStack> changedItems = new ArrayList<>();
+
+    /**
+     * Request types which got a new resolver since the last tick.
+     */
+    private final Set<TypeToken<?>> addedResolverTypes = new HashSet<>();
+
     public StandardRequestManager(@NotNull final IColony colony)
     {
         this.colony = colony;
@@ -338,6 +353,10 @@ public class StandardRequestManager implements IStandardRequestManager
     public void onProviderAddedToColony(@NotNull final IRequestResolverProvider provider)
     {
         getProviderHandler().registerProvider(provider);
+        for (final IRequestResolver<?> resolver : provider.getResolvers())
+        {
+            addedResolverTypes.add(resolver.getRequestType());
+        }
     }
 
     @Override
@@ -381,6 +400,24 @@ public class StandardRequestManager implements IStandardRequestManager
         getResolverHandler().onColonyUpdate(shouldTriggerReassign);
     }
 
+    @Override
+    public void onItemAvailabilityChanged(@NotNull final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return;
+        }
+
+        for (final ItemStack changedItem : changedItems)
+        {
+            if (ItemStack.isSameItemSameTags(changedItem, stack))
+            {
+                return;
+            }
+        }
+        changedItems.add(stack.copy());
+    }
+
     /**
      * Get the player resolve.
      *
@@ -573,6 +610,16 @@ public class StandardRequestManager implements IStandardRequestManager
     @Override
     public void tick()
     {
+        if (!changedItems.isEmpty() || !addedResolverTypes.isEmpty())
+        {
+            final List<ItemStack> items = new ArrayList<>(changedItems);
+            final Set<TypeToken<?>> types = new HashSet<>(addedResolverTypes);
+            changedItems.clear();
+            addedResolverTypes.clear();
+            onColonyUpdate(request -> (request.getRequest() instanceof IDeliverable deliverable && items.stream().anyMatch(deliverable::matches))
+                                        || (!types.isEmpty() && request.getSuperClasses().stream().anyMatch(types::contains)));
+        }
+
         this.getRetryingRequestResolver().updateManager(this);
         this.getRetryingRequestResolver().tick();
     }
@@ -282,6 +282,12 @@ public abstract class AbstractWrappedRequestManager implements IRequestManager
         throw new UnsupportedOperationException("This method cannot be used by Wrapped Request Managers!");
     }
 
+    @Override
+    public void onItemAvailabilityChanged(@NotNull final ItemStack stack)
+    {
+        throw new UnsupportedOperationException("This method cannot be used by Wrapped Request Managers!");
+    }
+
     @Override
     public void log(final String message)
     {
@@ -145,6 +145,11 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void tick()
     {
+        if (assignedRequests.isEmpty())
+        {
+            return;
+        }
+
         manager.log("Starting reassignment.");
 
         //Lets decrement all delays
@@ -77,6 +77,12 @@ public class CommandCitizenInfo implements IMCColonyOfficerCommand
 
             context.getSource()
               .sendSuccess(() -> Component.translatable(CommandTranslationConstants.COMMAND_CITIZEN_INFO_HEALTH, entityCitizen.getHealth(), entityCitizen.getMaxHealth()), true);
+
+            if (entityCitizen instanceof EntityCitizen citizen)
+            {
+                context.getSource()
+                  .sendSuccess(() -> Component.translatable(CommandTranslationConstants.COMMAND_CITIZEN_INFO_AI_LOD, citizen.getAILevelOfDetail()), true);
+            }
         }
         else
         {
@@ -116,6 +116,7 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
             }
         }
 
+        QuestManager.onQuestsReloaded();
         Log.getLogger().info("Finished loading quests from data");
     }
 
@@ -209,7 +210,15 @@ public class QuestJsonListener extends SimpleJsonResourceReloadListener
             }
         }
 
-        return new QuestTemplate(questId, questName, parents, maxOccurrences, parseTriggerOrder(questId, order, questTriggers), questObjectives, questTimeout, questRewards);
+        return new QuestTemplate(questId,
+          questName,
+          parents,
+          maxOccurrences,
+          parseTriggerOrder(questId, order, questTriggers),
+          !questTriggers.isEmpty() && questTriggers.stream().allMatch(IQuestTriggerTemplate::dependsOnQuestInputsOnly),
+          questObjectives,
+          questTimeout,
+          questRewards);
 
         /*
 
@@ -1,17 +1,21 @@
 package com.minecolonies.core.entity.ai.combat;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.entity.ai.IStateAI;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickRateStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.api.entity.ai.combat.CombatAIStates;
 import com.minecolonies.api.entity.ai.combat.threat.IThreatTableEntity;
 import com.minecolonies.api.entity.ai.combat.threat.ThreatTableEntry;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.phys.AABB;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -138,7 +142,7 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final List<LivingEntity> entities = getEntitiesInArea(getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -158,7 +162,7 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
                 return false;
             }
 
-            if (isEntityValidTarget(entity) && user.getSensing().hasLineOfSight(entity))
+            if (isEntityValidTarget(entity) && hasLineOfSight(entity))
             {
                 user.getThreatTable().addThreat(entity, 0);
                 foundTarget = true;
@@ -168,6 +172,57 @@ public class TargetAI<T extends Mob & IThreatTableEntity> implements IStateAI
         return foundTarget;
     }
 
+    /**
+     * Get the living entities in an area, shared with the other fighters of the colony when there is one.
+     *
+     * @param area the area to look in.
+     * @return the entities.
+     */
+    protected List<LivingEntity> getEntitiesInArea(final AABB area)
+    {
+        final IColony colony = getColony();
+        if (colony == null)
+        {
+            return user.level.getEntitiesOfClass(LivingEntity.class, area);
+        }
+        return colony.getCombatAwarenessManager().getEntitiesInArea(area);
+    }
+
+    /**
+     * Check if the user can see an entity, shared with the other fighters of the colony when there is one.
+     *
+     * @param entity the entity to look at.
+     * @return true if there is a line of sight.
+     */
+    protected boolean hasLineOfSight(final LivingEntity entity)
+    {
+        final IColony colony = getColony();
+        if (colony == null)
+        {
+            return user.getSensing().hasLineOfSight(entity);
+        }
+        return colony.getCombatAwarenessManager().hasLineOfSight(user, entity);
+    }
+
+    /**
+     * Get the colony the user fights for or against.
+     *
+     * @return the colony, or null if there is none.
+     */
+    @Nullable
+    private IColony getColony()
+    {
+        if (user instanceof AbstractEntityCitizen citizen)
+        {
+            return citizen.getCitizenColonyHandler().getColony();
+        }
+        if (user instanceof AbstractEntityRaiderMob raider)
+        {
+            return raider.getColony();
+        }
+        return null;
+    }
+
     /**
      * Skips the search if true
      *
@@ -14,6 +14,7 @@ import com.minecolonies.api.util.WorldUtil;
 import com.minecolonies.core.colony.buildings.modules.GraveyardManagementModule;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingGraveyard;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
+import com.minecolonies.core.util.WorkerUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.world.entity.Entity;
@@ -116,7 +117,7 @@ public class EntityAIMournCitizen implements IStateAI
             return CitizenAIState.IDLE;
         }
 
-        if (!citizen.isWorkerAtSiteWithMove(pos, 3))
+        if (!WorkerUtil.isWorkerAtCommonSiteWithMove(citizen, pos, 3))
         {
             return MourningState.WALKING_TO_TOWNHALL;
         }
@@ -368,7 +368,13 @@ public abstract class AbstractEntityAIInteract<J extends AbstractJob<?, J>, B ex
      */
     public void searchForItems(final AABB boundingBox)
     {
-        items = world.getEntitiesOfClass(ItemEntity.class, boundingBox)
+        List<ItemEntity> foundItems = building.getColony().getDroppedItemManager().getItemsInArea(boundingBox);
+        if (foundItems == null)
+        {
+            foundItems = world.getEntitiesOfClass(ItemEntity.class, boundingBox);
+        }
+
+        items = foundItems
                   .stream()
                   .filter(item -> item != null && item.isAlive() &&
                                     (!item.getPersistentData().contains("PreventRemoteMovement") || !item.getPersistentData().getBoolean("PreventRemoteMovement")) &&
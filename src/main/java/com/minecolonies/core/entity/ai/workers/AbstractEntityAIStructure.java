@@ -28,6 +28,7 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.items.ModTags;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.colony.buildings.AbstractBuildingStructureBuilder;
 import com.minecolonies.core.colony.buildings.modules.BuildingResourcesModule;
 import com.minecolonies.core.colony.buildings.utils.BuilderBucket;
@@ -84,6 +85,21 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
      */
     protected static final int BUILD_BLOCK_DELAY = 15;
 
+    /**
+     * The time in ticks one batch of blocks may take at most, blocks placed faster than half of it are placed in batches.
+     */
+    private static final int MAX_BATCH_TIME = TICKS_SECOND * 2;
+
+    /**
+     * The maximum amount of blocks placed in one batch.
+     */
+    private static final int MAX_BLOCKS_PER_STEP = 8;
+
+    /**
+     * The amount of blocks to place in the next structure step.
+     */
+    private int blocksPerStep = 1;
+
     /**
      * The current structure task to be build.
      */
@@ -515,11 +531,36 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure<?
         }
 
         final double decrease = 1 - worker.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(BLOCK_PLACE_SPEED);
-        setDelay((int) ((BUILD_BLOCK_DELAY * PROGRESS_MULTIPLIER / (getPlaceSpeedLevel() / 2 + PROGRESS_MULTIPLIER)) * decrease));
+        final int delay = (int) ((BUILD_BLOCK_DELAY * PROGRESS_MULTIPLIER / (getPlaceSpeedLevel() / 2 + PROGRESS_MULTIPLIER)) * decrease);
+        // The delay only counts down once per AI tick and placing takes another AI tick, so one block really takes the delay rounded up to the tick rate plus one tick.
+        final int tickRate = getTickRate();
+        final int blockTime = (Math.max(0, delay) + tickRate - 1) / tickRate * tickRate + tickRate;
+        final int batchSize = Math.min(MAX_BLOCKS_PER_STEP, MAX_BATCH_TIME / blockTime);
+        if (MineColonies.getConfig().getServer().builderPlacementBatching.get() && batchSize > 1)
+        {
+            // Fast builders place several blocks at once, waiting as long as placing them one by one would take, the block updates of a batch are then sent together.
+            blocksPerStep = batchSize;
+            setDelay(batchSize * blockTime - tickRate);
+        }
+        else
+        {
+            blocksPerStep = 1;
+            setDelay(delay);
+        }
 
         return getState();
     }
 
+    /**
+     * Get the amount of blocks to place in one structure step.
+     *
+     * @return the amount of blocks.
+     */
+    public int getBlocksPerStep()
+    {
+        return blocksPerStep;
+    }
+
     /**
      * Get the position the citizen needs to walk to in order to build
      *
@@ -1,6 +1,7 @@
 package com.minecolonies.core.entity.ai.workers;
 
 import com.ldtteam.structurize.blockentities.interfaces.IBlueprintDataProviderBE;
+import com.ldtteam.structurize.placement.AbstractBlueprintIterator;
 import com.ldtteam.structurize.placement.BlockPlacementResult;
 import com.ldtteam.structurize.placement.StructurePhasePlacementResult;
 import com.ldtteam.structurize.placement.StructurePlacer;
@@ -35,6 +36,8 @@ import net.minecraftforge.common.MinecraftForge;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.function.Supplier;
+
 import static com.ldtteam.structurize.placement.AbstractBlueprintIterator.NULL_POS;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.IDLE;
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.PICK_UP_RESIDUALS;
@@ -75,6 +78,21 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
      */
     private boolean recalculated = false;
 
+    /**
+     * The maximum amount of blocks checked for resources in one request step, spreads large structures over several AI ticks.
+     */
+    private static final int MAX_BLOCKS_PER_REQUEST_STEP = 1000;
+
+    /**
+     * If the last request step stopped early because it reached the block limit.
+     */
+    private boolean requestStepLimited = false;
+
+    /**
+     * The position the last limited request step stopped at.
+     */
+    private BlockPos requestStepPos = NULL_POS;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -258,20 +276,20 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                   null,
                   requestProgress,
                   StructurePlacer.Operation.GET_RES_REQUIREMENTS,
-                  () -> placer.getIterator()
+                  limitIteration(placer, () -> placer.getIterator()
                           .increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> !BlockUtils.canBlockFloatInAir(info.getBlockInfo().getState())
                                                                                        || isDecoItem(info.getBlockInfo()
                                                                                                        .getState()
-                                                                                                       .getBlock()))),
+                                                                                                       .getBlock())))),
                   false);
-                requestProgress = result.getIteratorPos();
+                requestProgress = requestStepLimited ? requestStepPos : result.getIteratorPos();
 
                 for (final ItemStack stack : result.getBlockResult().getRequiredItems())
                 {
                     building.addNeededResource(stack, stack.getCount());
                 }
 
-                if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
+                if (!requestStepLimited && result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
                 {
                     requestState = RequestStage.WEAK_SOLID;
                 }
@@ -282,16 +300,16 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                   null,
                   requestProgress,
                   StructurePlacer.Operation.GET_RES_REQUIREMENTS,
-                  () -> placer.getIterator().increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> !BlockUtils.isWeakSolidBlock(info.getBlockInfo().getState()))),
+                  limitIteration(placer, () -> placer.getIterator().increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> !BlockUtils.isWeakSolidBlock(info.getBlockInfo().getState())))),
                   false);
-                requestProgress = result.getIteratorPos();
+                requestProgress = requestStepLimited ? requestStepPos : result.getIteratorPos();
 
                 for (final ItemStack stack : result.getBlockResult().getRequiredItems())
                 {
                     building.addNeededResource(stack, stack.getCount());
                 }
 
-                if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
+                if (!requestStepLimited && result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
                 {
                     requestState = RequestStage.DECO;
                 }
@@ -302,34 +320,34 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                   null,
                   requestProgress,
                   StructurePlacer.Operation.GET_RES_REQUIREMENTS,
-                  () -> placer.getIterator()
+                  limitIteration(placer, () -> placer.getIterator()
                           .increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> BlockUtils.isAnySolid(info.getBlockInfo().getState()) && !isDecoItem(info.getBlockInfo()
                                                                                                                                                             .getState()
-                                                                                                                                                            .getBlock()))),
+                                                                                                                                                            .getBlock())))),
                   false);
-                requestProgress = result.getIteratorPos();
+                requestProgress = requestStepLimited ? requestStepPos : result.getIteratorPos();
 
                 for (final ItemStack stack : result.getBlockResult().getRequiredItems())
                 {
                     building.addNeededResource(stack, stack.getCount());
                 }
 
-                if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
+                if (!requestStepLimited && result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
                 {
                     requestState = RequestStage.ENTITIES;
                 }
                 return false;
             case ENTITIES:
                 result = placer.executeStructureStep(world, null, requestProgress, StructurePlacer.Operation.GET_RES_REQUIREMENTS,
-                  () -> placer.getIterator().increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> info.getEntities().length == 0)), true);
-                requestProgress = result.getIteratorPos();
+                  limitIteration(placer, () -> placer.getIterator().increment(DONT_TOUCH_PREDICATE.or((info, pos, handler) -> info.getEntities().length == 0))), true);
+                requestProgress = requestStepLimited ? requestStepPos : result.getIteratorPos();
 
                 for (final ItemStack stack : result.getBlockResult().getRequiredItems())
                 {
                     building.addNeededResource(stack, stack.getCount());
                 }
 
-                if (result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
+                if (!requestStepLimited && result.getBlockResult().getResult() == BlockPlacementResult.Result.FINISHED)
                 {
                     requestState = RequestStage.SOLID;
                     requestProgress = null;
@@ -343,6 +361,29 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         }
     }
 
+    /**
+     * Limit the amount of blocks a request step iterates over. When the limit is hit the iteration is reported as finished to the placer
+     * and the position is remembered, so the next step continues from there.
+     *
+     * @param placer    the placer of the step.
+     * @param increment the actual iteration.
+     * @return the limited iteration.
+     */
+    private Supplier<AbstractBlueprintIterator.Result> limitIteration(final StructurePlacer placer, final Supplier<AbstractBlueprintIterator.Result> increment)
+    {
+        requestStepLimited = false;
+        final int[] checked = {0};
+        return () -> {
+            if (checked[0]++ >= MAX_BLOCKS_PER_REQUEST_STEP)
+            {
+                requestStepLimited = true;
+                requestStepPos = placer.getIterator().getProgressPos();
+                return AbstractBlueprintIterator.Result.AT_END;
+            }
+            return increment.get();
+        };
+    }
+
     @Override
     public void registerBlockAsNeeded(final ItemStack stack)
     {
@@ -564,8 +564,29 @@ public abstract class AbstractEntityAICrafting<J extends AbstractJobCrafter<?, J
      */
     private int getRequiredProgressForMakingRawMaterial()
     {
-        final int jobModifier = worker.getCitizenData().getCitizenSkillHandler().getLevel(((CraftingWorkerBuildingModule) getModuleForJob()).getCraftSpeedSkill()) / 2;
-        return PROGRESS_MULTIPLIER / Math.min(jobModifier + 1, MAX_LEVEL) * HITTING_TIME;
+        return getRequiredProgressForMakingRawMaterial(worker.getCitizenData().getCitizenSkillHandler().getLevel(((CraftingWorkerBuildingModule) getModuleForJob()).getCraftSpeedSkill()));
+    }
+
+    /**
+     * Get the required progress to execute a recipe.
+     *
+     * @param craftSpeedSkillLevel the level of the skill that improves the crafting speed.
+     * @return the amount of hits required.
+     */
+    private static int getRequiredProgressForMakingRawMaterial(final int craftSpeedSkillLevel)
+    {
+        return PROGRESS_MULTIPLIER / Math.min(craftSpeedSkillLevel / 2 + 1, MAX_LEVEL) * HITTING_TIME;
+    }
+
+    /**
+     * Get the game ticks the worker spends hitting the block for one recipe execution.
+     *
+     * @param craftSpeedSkillLevel the level of the skill that improves the crafting speed.
+     * @return the ticks per recipe execution.
+     */
+    public static int getTicksPerCraft(final int craftSpeedSkillLevel)
+    {
+        return HIT_DELAY * Math.max(1, getRequiredProgressForMakingRawMaterial(craftSpeedSkillLevel));
     }
 
     @Override
@@ -33,6 +33,7 @@ import com.minecolonies.core.entity.citizen.EntityCitizen;
 import com.minecolonies.core.entity.other.SittingEntity;
 import com.minecolonies.core.network.messages.client.SleepingParticleMessage;
 import com.minecolonies.core.util.TeleportHelper;
+import com.minecolonies.core.util.WorkerUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.util.Mth;
 import net.minecraft.world.InteractionHand;
@@ -466,11 +467,15 @@ public abstract class AbstractEntityAIGuard<J extends AbstractJobGuard<J>, B ext
     private IAIState rally(final ILocation location)
     {
         final ICitizenData citizenData = worker.getCitizenData();
-        if (!worker.isWorkerAtSiteWithMove(location.getInDimensionLocation()
-                                             .offset(randomGenerator.nextInt(GUARD_FOLLOW_TIGHT_RANGE) - GUARD_FOLLOW_TIGHT_RANGE / 2,
-                                               0,
-                                               randomGenerator.nextInt(GUARD_FOLLOW_TIGHT_RANGE) - GUARD_FOLLOW_TIGHT_RANGE / 2),
-          GUARD_FOLLOW_TIGHT_RANGE) && citizenData != null)
+        final BlockPos rallyPos = location.getInDimensionLocation();
+
+        // All rallying guards share the path to the banner, close to it they spread out.
+        final boolean atSite = BlockPosUtil.getDistanceSquared(worker.blockPosition(), rallyPos) > GUARD_FOLLOW_TIGHT_RANGE * GUARD_FOLLOW_TIGHT_RANGE * 4
+                                 ? WorkerUtil.isWorkerAtCommonSiteWithMove(worker, rallyPos, GUARD_FOLLOW_TIGHT_RANGE)
+                                 : worker.isWorkerAtSiteWithMove(rallyPos.offset(randomGenerator.nextInt(GUARD_FOLLOW_TIGHT_RANGE) - GUARD_FOLLOW_TIGHT_RANGE / 2,
+                                   0,
+                                   randomGenerator.nextInt(GUARD_FOLLOW_TIGHT_RANGE) - GUARD_FOLLOW_TIGHT_RANGE / 2), GUARD_FOLLOW_TIGHT_RANGE);
+        if (!atSite && citizenData != null)
         {
             if (!worker.hasEffect(MobEffects.MOVEMENT_SPEED))
             {
@@ -250,7 +250,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
             return true;
         }
 
-        final List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, getSearchArea());
+        final List<LivingEntity> entities = getEntitiesInArea(getSearchArea());
 
         if (entities.isEmpty())
         {
@@ -273,7 +273,7 @@ public class DruidCombatAI extends AttackMoveAI<EntityCitizen>
 
             if (isEntityValidTarget(entity))
             {
-                if (user.hasLineOfSight(entity))
+                if (hasLineOfSight(entity))
                 {
                     user.getThreatTable().addThreat(entity, 0);
                     foundTarget = true;
@@ -202,7 +202,7 @@ public class KnightCombatAI extends AttackMoveAI<EntityCitizen>
         if (user.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(KNIGHT_WHIRLWIND) > 0
               && user.getRandom().nextInt(KNOCKBACK_CHANCE) == 0)
         {
-            List<LivingEntity> entities = user.level.getEntitiesOfClass(LivingEntity.class, user.getBoundingBox().inflate(2.0D, 0.5D, 2.0D));
+            List<LivingEntity> entities = getEntitiesInArea(user.getBoundingBox().inflate(2.0D, 0.5D, 2.0D));
             for (LivingEntity livingentity : entities)
             {
                 if (livingentity != user && isEntityValidTarget(livingentity) && (!(livingentity instanceof ArmorStand)))
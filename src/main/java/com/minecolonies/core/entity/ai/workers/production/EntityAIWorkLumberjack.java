@@ -12,6 +12,7 @@ import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
+import com.minecolonies.core.colony.buildings.modules.BuildingModules;
 import com.minecolonies.core.colony.buildings.modules.ItemListModule;
 import com.minecolonies.core.colony.buildings.workerbuildings.BuildingLumberjack;
 import com.minecolonies.core.colony.jobs.JobLumberjack;
@@ -173,6 +174,11 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
      */
     private PathResult<?> pathToTree;
 
+    /**
+     * If the current tree was taken from the forest map of the building instead of being found by a path search.
+     */
+    private boolean treeFromMap = false;
+
     @Override
     protected int getActionRewardForCraftingSuccess()
     {
@@ -386,6 +392,13 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
         }
         if (pathResult == null)
         {
+            final BlockPos knownTree = building.getModule(BuildingModules.FORESTER_MAP).takeNearestTree(worker.blockPosition());
+            if (knownTree != null && startTree(knownTree))
+            {
+                treeFromMap = true;
+                return LUMBERJACK_CHOP_TREE;
+            }
+
             if (building.shouldRestrict())
             {
                 final BlockPos startPos = building.getStartRestriction();
@@ -433,26 +446,38 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
                 return LUMBERJACK_NO_TREES_FOUND;
             }
         }
-        else
+        else if (startTree(pathResult.treeLocation))
         {
-            job.setTree(new Tree(world, pathResult.treeLocation, building.shouldRestrict() ? null : building.getColony()));
-
-            // Check if tree creation was successful
-            if (job.getTree().isTree())
-            {
-                job.getTree().findLogs(world, building.shouldRestrict() ? null : building.getColony());
-                return LUMBERJACK_CHOP_TREE;
-            }
-            else
-            {
-                job.setTree(null);
-            }
+            treeFromMap = false;
+            return LUMBERJACK_CHOP_TREE;
         }
         pathResult = null;
 
         return getState();
     }
 
+    /**
+     * Set up the tree at the given location as the next tree to cut.
+     *
+     * @param location the location of the tree.
+     * @return true if it is a valid tree.
+     */
+    private boolean startTree(final BlockPos location)
+    {
+        job.setTree(new Tree(world, location, building.shouldRestrict() ? null : building.getColony()));
+        pathToTree = null;
+
+        // Check if tree creation was successful
+        if (job.getTree().isTree())
+        {
+            job.getTree().findLogs(world, building.shouldRestrict() ? null : building.getColony());
+            return true;
+        }
+
+        job.setTree(null);
+        return false;
+    }
+
     /**
      * Again checks if all preconditions are given to execute chopping. If yes go chopping, else return to previous AIStates.
      *
@@ -491,6 +516,17 @@ public class EntityAIWorkLumberjack extends AbstractEntityAICrafting<JobLumberja
 
         if (job.getTree().hasLogs() || (shouldBreakLeaves && job.getTree().hasLeaves()) || checkedInHut)
         {
+            // Trees from the forest map were not found by walking there, so they might not be reachable at all.
+            if (treeFromMap && pathToTree != null && pathToTree.failedToReachDestination() && workFrom != null
+                  && MathUtils.twoDimDistance(worker.blockPosition(), workFrom) > MIN_WORKING_RANGE)
+            {
+                building.getModule(BuildingModules.FORESTER_MAP).markUnreachable(job.getTree().getLocation());
+                job.setTree(null);
+                pathToTree = null;
+                workFrom = null;
+                return LUMBERJACK_SEARCHING_TREE;
+            }
+
             if (!walkToTree(job.getTree().getStumpLocations().isEmpty() ? job.getTree().getLocation() : job.getTree().getStumpLocations().get(0)))
             {
                 if (checkIfStuck())
@@ -114,11 +114,6 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
      */
     private final Map<UUID, Long> fedRecently = new HashMap<>();
 
-    /**
-     * Prevents retrying breeding too quickly if last attempt failed
-     */
-    private int breedTimeOut = 0;
-
     /**
      * Creates the abstract part of the AI. Always use this constructor!
      *
@@ -191,13 +186,13 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
     {
         worker.getCitizenData().setVisibleStatus(VisibleCitizenStatus.WORKING);
 
-        if (breedTimeOut > 0)
-        {
-            breedTimeOut -= DECIDING_DELAY;
-        }
-
         for (final AnimalHerdingModule module : building.getModulesByType(AnimalHerdingModule.class))
         {
+            if (module.getAnimalCount() == 0)
+            {
+                continue;
+            }
+
             final List<? extends Animal> animals = searchForAnimals(module::isCompatible);
             if (animals.isEmpty())
             {
@@ -227,7 +222,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
             {
                 return HERDER_BUTCHER;
             }
-            else if (canBreedChildren() && numOfBreedableAnimals >= NUM_OF_ANIMALS_TO_BREED && hasBreedingItem && breedTimeOut == 0)
+            else if (canBreedChildren() && numOfBreedableAnimals >= NUM_OF_ANIMALS_TO_BREED && hasBreedingItem && !module.isBreedingTimedOut(world.getGameTime()))
             {
                 return HERDER_BREED;
             }
@@ -425,7 +420,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
         if (breedables.size() < 2)
         {
             worker.getCitizenItemHandler().removeHeldItem();
-            breedTimeOut = TICKS_SECOND * 60;
+            current_module.setBreedTimeOut(world.getGameTime(), TICKS_SECOND * 60);
             return DECIDE;
         }
 
@@ -449,7 +444,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
         if (animalTwo == null)
         {
             worker.getCitizenItemHandler().removeHeldItem();
-            breedTimeOut = TICKS_SECOND * 20;
+            current_module.setBreedTimeOut(world.getGameTime(), TICKS_SECOND * 20);
             return DECIDE;
         }
 
@@ -468,7 +463,7 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
             return getState();
         }
 
-        breedTimeOut = TICKS_SECOND * 60;
+        current_module.setBreedTimeOut(world.getGameTime(), TICKS_SECOND * 60);
         worker.getCitizenItemHandler().removeHeldItem();
         return IDLE;
     }
@@ -584,7 +579,12 @@ public abstract class AbstractEntityAIHerder<J extends AbstractJob<?, J>, B exte
      */
     public List<? extends Animal> searchForAnimals(final Predicate<Animal> predicate)
     {
-        return WorldUtil.getEntitiesWithinBuilding(world, Animal.class, building, predicate);
+        final List<Animal> animals = new ArrayList<>();
+        for (final AnimalHerdingModule module : building.getModulesByType(AnimalHerdingModule.class))
+        {
+            animals.addAll(module.getAnimals(predicate));
+        }
+        return animals;
     }
 
     public int getMaxAnimalMultiplier()
@@ -11,6 +11,7 @@ import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockStateUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.core.MineColonies;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
@@ -38,9 +39,12 @@ import net.minecraftforge.common.Tags;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static com.minecolonies.api.items.ModTags.fungi;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -70,6 +74,20 @@ public class Tree
      */
     private static final int A_LOT_OF_LUCK = 10000;
 
+    /**
+     * Block classification flags for the shared block type cache.
+     */
+    private static final byte LOG         = 1;
+    private static final byte DYNAMIC_LOG = 2;
+    private static final byte LEAF        = 4;
+    private static final byte WART        = 8;
+    private static final byte SHROOMLIGHT = 16;
+
+    /**
+     * Classification of the blocks seen by the tree analysis, shared by all lumberjacks and the path jobs looking for trees.
+     */
+    private static final Map<Block, Byte> BLOCK_TYPES = new ConcurrentHashMap<>();
+
     /**
      * The location of the tree stump.
      */
@@ -143,7 +161,7 @@ public class Tree
     public Tree(@NotNull final Level world, @NotNull final BlockPos log, @Nullable final IColony colony)
     {
         final BlockState block = BlockPosUtil.getBlockState(world, log);
-        if (block.is(ModTags.tree) || Compatibility.isSlimeBlock(block.getBlock()) || Compatibility.isDynamicBlock(block.getBlock()))
+        if (is(block, LOG | DYNAMIC_LOG))
         {
             isTree = true;
             woodBlocks = new LinkedList<>();
@@ -352,7 +370,7 @@ public class Tree
         //Is the first block a log?
         final BlockState state = world.getBlockState(pos);
         final Block block = state.getBlock();
-        if (!state.is(ModTags.tree) && !Compatibility.isSlimeBlock(block) && !Compatibility.isDynamicBlock(block))
+        if (!is(state, LOG | DYNAMIC_LOG))
         {
             return false;
         }
@@ -365,7 +383,7 @@ public class Tree
             return false;
         }
 
-        final Tuple<BlockPos, BlockPos> baseAndTOp = getBottomAndTopLog(world, pos, new LinkedList<>(), null, null);
+        final Tuple<BlockPos, BlockPos> baseAndTOp = getBottomAndTopLog(world, pos);
 
         //Get base log, should already be base log.
         final BlockPos basePos = baseAndTOp.getA();
@@ -377,59 +395,72 @@ public class Tree
     }
 
     /**
-     * Adds a log and searches for further logs(Breadth first search).
+     * Walks along the connected logs, always following the first unvisited neighbour log, to find the bottom and top log.
      *
-     * @param world        The world the log is in.
-     * @param log          The log to add.
-     * @param woodenBlocks The wooden blocks.
-     * @param bottomLog    The bottom most log.
-     * @param topLog       The top most log.
+     * @param world The world the log is in.
+     * @param log   The log to start at.
      * @return a tuple containing, first: bottom log and second: top log.
      */
     @NotNull
-    private static Tuple<BlockPos, BlockPos> getBottomAndTopLog(
-      @NotNull final LevelReader world,
-      @NotNull final BlockPos log,
-      @NotNull final LinkedList<BlockPos> woodenBlocks,
-      final BlockPos bottomLog,
-      final BlockPos topLog)
+    private static Tuple<BlockPos, BlockPos> getBottomAndTopLog(@NotNull final LevelReader world, @NotNull final BlockPos log)
     {
-        BlockPos bottom = bottomLog == null ? log : bottomLog;
-        BlockPos top = topLog == null ? log : topLog;
-
-        if (woodenBlocks.size() >= MineColonies.getConfig().getServer().maxTreeSize.get())
+        final int maxTreeSize = MineColonies.getConfig().getServer().maxTreeSize.get();
+        final LongOpenHashSet visited = new LongOpenHashSet();
+        final BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+
+        BlockPos bottom = log;
+        BlockPos top = log;
+        BlockPos current = log;
+        while (current != null && visited.size() < maxTreeSize)
         {
-            return new Tuple<>(bottom, top);
-        }
+            if (current.getY() < bottom.getY())
+            {
+                bottom = current;
+            }
 
-        if (log.getY() < bottom.getY())
-        {
-            bottom = log;
-        }
+            if (current.getY() > top.getY())
+            {
+                top = current;
+            }
 
-        if (log.getY() > top.getY())
-        {
-            top = log;
+            visited.add(current.asLong());
+            current = findUnvisitedNeighbourLog(world, current, visited, neighbour);
         }
 
-        woodenBlocks.add(log);
+        return new Tuple<>(bottom, top);
+    }
+
+    /**
+     * Find the first neighbouring log which was not visited yet.
+     *
+     * @param world     the world.
+     * @param log       the log to look around.
+     * @param visited   the visited positions.
+     * @param neighbour reused position to check.
+     * @return the neighbour log or null if there is none.
+     */
+    @Nullable
+    private static BlockPos findUnvisitedNeighbourLog(
+      @NotNull final LevelReader world,
+      @NotNull final BlockPos log,
+      @NotNull final LongOpenHashSet visited,
+      @NotNull final BlockPos.MutableBlockPos neighbour)
+    {
         for (int y = -1; y <= 1; y++)
         {
             for (int x = -1; x <= 1; x++)
             {
                 for (int z = -1; z <= 1; z++)
                 {
-                    final BlockPos temp = log.offset(x, y, z);
-                    final BlockState block = world.getBlockState(temp);
-                    if ((block.is(ModTags.tree) || Compatibility.isSlimeBlock(block.getBlock()) || Compatibility.isDynamicBlock(block.getBlock())) && !woodenBlocks.contains(temp))
+                    neighbour.setWithOffset(log, x, y, z);
+                    if (!visited.contains(neighbour.asLong()) && is(world.getBlockState(neighbour), LOG | DYNAMIC_LOG))
                     {
-                        return getBottomAndTopLog(world, temp, woodenBlocks, bottom, top);
+                        return neighbour.immutable();
                     }
                 }
             }
         }
-
-        return new Tuple<>(bottom, top);
+        return null;
     }
 
     /**
@@ -460,7 +491,7 @@ public class Tree
                 {
                     final BlockPos leafPos = pos.offset(dx, dy, dz);
                     final BlockState block = world.getBlockState(leafPos);
-                    if (block.is(BlockTags.LEAVES) || block.is(ModTags.hugeMushroomBlocks) || block.is(BlockTags.WART_BLOCKS))
+                    if (is(block, LEAF | WART))
                     {
                         if (!checkedLeaves && !supposedToCut(world, treesToNotCut, leafPos))
                         {
@@ -593,15 +624,16 @@ public class Tree
             return;
         }
         int leafCount = 0;
+        final BlockPos.MutableBlockPos leaf = new BlockPos.MutableBlockPos();
         for (int x = -1; x <= 1; x++)
         {
             for (int z = -1; z <= 1; z++)
             {
                 for (int y = -1; y <= 1; y++)
                 {
-                    final BlockPos leaf = new BlockPos(topLog.getX() + x, topLog.getY() + y, topLog.getZ() + z);
+                    leaf.setWithOffset(topLog, x, y, z);
                     final BlockState leaves = world.getBlockState(leaf);
-                    if (leaves.is(BlockTags.LEAVES) || leaves.is(ModTags.hugeMushroomBlocks))
+                    if (is(leaves, LEAF))
                     {
                         if (leaves.getOptionalValue(LeavesBlock.PERSISTENT).orElse(false))
                         {
@@ -671,74 +703,93 @@ public class Tree
      * Adds a log and searches for further logs(Breadth first search).
      *
      * @param world  The world the log is in.
-     * @param log    the log to add.
+     * @param start  the log to start at.
      * @param colony the colony to search for buildings, or null if we don't care.
      */
-    private void addAndSearch(@NotNull final Level world, @NotNull final BlockPos log, @Nullable final IColony colony)
+    private void addAndSearch(@NotNull final Level world, @NotNull final BlockPos start, @Nullable final IColony colony)
     {
-        if (woodBlocks.size() >= MineColonies.getConfig().getServer().maxTreeSize.get())
+        final int maxTreeSize = MineColonies.getConfig().getServer().maxTreeSize.get();
+        final BlockState baseState = world.getBlockState(location);
+        final LongOpenHashSet visited = new LongOpenHashSet();
+        for (final BlockPos log : woodBlocks)
         {
-            return;
-        }
-
-        if (woodBlocks.contains(log))
-        {
-            return;
+            visited.add(log.asLong());
         }
 
-        // Check if the new log fits the Tree's base log type
-        if (!isBlockPartOfSameTree(world.getBlockState(log), world.getBlockState(location)))
+        if (!visited.add(start.asLong()) || !isBlockPartOfSameTree(world.getBlockState(start), baseState))
         {
             return;
         }
 
-        if (log.getY() < location.getY())
+        final ArrayDeque<BlockPos> queue = new ArrayDeque<>();
+        queue.add(start);
+        final BlockPos.MutableBlockPos neighbour = new BlockPos.MutableBlockPos();
+        while (!queue.isEmpty() && woodBlocks.size() < maxTreeSize)
         {
-            location = log;
-        }
-
-        if (log.getY() > topLog.getY())
-        {
-            topLog = log;
-        }
+            final BlockPos log = queue.poll();
+            if (log.getY() < location.getY())
+            {
+                location = log;
+            }
 
-        if (colony != null)
-        {
-            for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+            if (log.getY() > topLog.getY())
             {
-                if (building.isInBuilding(log))
-                {
-                    return;
-                }
+                topLog = log;
             }
-        }
 
-        woodBlocks.add(log);
+            if (colony != null && isInAnyBuilding(colony, log))
+            {
+                continue;
+            }
 
-        // Only add the base to a dynamic tree
-        if (Compatibility.isDynamicBlock(BlockPosUtil.getBlock(world, log)))
-        {
-            return;
-        }
+            woodBlocks.add(log);
 
+            // Only add the base to a dynamic tree
+            if (Compatibility.isDynamicBlock(BlockPosUtil.getBlock(world, log)))
+            {
+                continue;
+            }
 
-        for (int y = -1; y <= 1; y++)
-        {
-            for (int x = -1; x <= 1; x++)
+            for (int y = -1; y <= 1; y++)
             {
-                for (int z = -1; z <= 1; z++)
+                for (int x = -1; x <= 1; x++)
                 {
-                    final BlockPos temp = log.offset(x, y, z);
-                    final BlockState block = BlockPosUtil.getBlockState(world, temp);
-                    if ((block.is(ModTags.tree) || Compatibility.isSlimeBlock(block.getBlock())))
+                    for (int z = -1; z <= 1; z++)
                     {
-                        addAndSearch(world, temp, colony);
+                        neighbour.setWithOffset(log, x, y, z);
+                        if (visited.add(neighbour.asLong()))
+                        {
+                            final BlockState block = BlockPosUtil.getBlockState(world, neighbour);
+                            if (is(block, LOG) && isBlockPartOfSameTree(block, baseState))
+                            {
+                                queue.add(neighbour.immutable());
+                            }
+                        }
                     }
                 }
             }
         }
     }
 
+    /**
+     * Check if a position is inside any building of the colony.
+     *
+     * @param colony the colony.
+     * @param pos    the position.
+     * @return true if so.
+     */
+    private static boolean isInAnyBuilding(@NotNull final IColony colony, @NotNull final BlockPos pos)
+    {
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            if (building.isInBuilding(pos))
+            {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Check if this is a log in the same tree type.
      *
@@ -783,27 +834,88 @@ public class Tree
             locZMax = locZMin;
             locZMin = temp;
         }
+        final BlockPos.MutableBlockPos leaf = new BlockPos.MutableBlockPos();
         for (int locX = locXMin; locX <= locXMax; locX++)
         {
             for (int locY = locYMin; locY < world.getHeight(); locY++)
             {
                 for (int locZ = locZMin; locZ <= locZMax; locZ++)
                 {
-                    final BlockPos leaf = new BlockPos(locX, locY, locZ);
+                    leaf.set(locX, locY, locZ);
                     final BlockState block = world.getBlockState(leaf);
-                    if (block.is(BlockTags.LEAVES) || block.is(ModTags.hugeMushroomBlocks) ||
-                            block.is(BlockTags.WART_BLOCKS) || block.is(Blocks.SHROOMLIGHT))
+                    if (is(block, LEAF | WART | SHROOMLIGHT) && !block.getOptionalValue(LeavesBlock.PERSISTENT).orElse(false))
                     {
-                        if (!block.getOptionalValue(LeavesBlock.PERSISTENT).orElse(false))
-                        {
-                            leaves.add(leaf);
-                        }
+                        leaves.add(leaf.immutable());
                     }
                 }
             }
         }
     }
 
+    /**
+     * Check if a block can be part of a tree trunk, using the shared block classification.
+     *
+     * @param state the block state.
+     * @return true if it is a log or a dynamic tree branch.
+     */
+    public static boolean isLog(@NotNull final BlockState state)
+    {
+        return is(state, LOG | DYNAMIC_LOG);
+    }
+
+    /**
+     * Check if a block state matches any of the given block types.
+     *
+     * @param state the block state.
+     * @param types the block type flags.
+     * @return true if so.
+     */
+    private static boolean is(@NotNull final BlockState state, final int types)
+    {
+        return (BLOCK_TYPES.computeIfAbsent(state.getBlock(), block -> classify(state)) & types) != 0;
+    }
+
+    /**
+     * Classify a block for the tree analysis.
+     *
+     * @param state a state of the block.
+     * @return the block type flags.
+     */
+    private static byte classify(@NotNull final BlockState state)
+    {
+        final Block block = state.getBlock();
+        byte types = 0;
+        if (state.is(ModTags.tree) || Compatibility.isSlimeBlock(block))
+        {
+            types |= LOG;
+        }
+        if (Compatibility.isDynamicBlock(block))
+        {
+            types |= DYNAMIC_LOG;
+        }
+        if (state.is(BlockTags.LEAVES) || state.is(ModTags.hugeMushroomBlocks))
+        {
+            types |= LEAF;
+        }
+        if (state.is(BlockTags.WART_BLOCKS))
+        {
+            types |= WART;
+        }
+        if (state.is(Blocks.SHROOMLIGHT))
+        {
+            types |= SHROOMLIGHT;
+        }
+        return types;
+    }
+
+    /**
+     * Clear the shared block classification, needed whenever the tags change.
+     */
+    public static void clearBlockTypeCache()
+    {
+        BLOCK_TYPES.clear();
+    }
+
     /**
      * Returns the next log block.
      *
@@ -31,6 +31,7 @@ import com.minecolonies.api.entity.pathfinding.proxy.IWalkToProxy;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.inventory.container.ContainerCitizenInventory;
 import com.minecolonies.api.items.ModItems;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import com.minecolonies.api.sounds.EventType;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.MessageUtils.MessagePriority;
@@ -131,6 +132,12 @@ import static com.minecolonies.core.entity.ai.minimal.EntityAIInteractToggleAble
 @SuppressWarnings({"PMD.ExcessiveImports", "PMD.CouplingBetweenObjects", "PMD.ExcessiveClassLength"})
 public class EntityCitizen extends AbstractEntityCitizen implements IThreatTableEntity
 {
+    /**
+     * Research effect slots of the movement effects, checked by the pathfinding.
+     */
+    private static final int RAILS_SLOT = ResearchEffectSlots.intern(RAILS);
+    private static final int VINES_SLOT = ResearchEffectSlots.intern(VINES);
+
     /**
      * Cooldown for calling help, in ticks.
      */
@@ -241,6 +248,16 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
      */
     private ITickRateStateMachine<IState> citizenAI = new TickRateStateMachine<>(CitizenAIState.IDLE, e -> {}, ENTITY_AI_TICKRATE);
 
+    /**
+     * AI level of detail, the citizen AI is only ticked every n-th time, running the skipped ticks in one batch.
+     */
+    private int aiLevelOfDetail = 1;
+
+    /**
+     * Citizen AI ticks skipped due to the level of detail.
+     */
+    private int aiLevelOfDetailSkipped = 0;
+
     /**
      * Maximum air supply
      */
@@ -290,8 +307,17 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::onServerUpdateHandlers, () -> null, TICKS_20));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::onTickDecrements, () -> null, 1));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::shouldBeInactive, () -> EntityState.INACTIVE, TICKS_20));
+        entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, this::updateAILevelOfDetail, () -> null, TICKS_20));
         entityStateController.addTransition(new TickingTransition<>(EntityState.ACTIVE_SERVER, () -> {
-            citizenAI.tick();
+            if (++aiLevelOfDetailSkipped >= aiLevelOfDetail)
+            {
+                final int batch = aiLevelOfDetailSkipped;
+                aiLevelOfDetailSkipped = 0;
+                for (int i = 0; i < batch; i++)
+                {
+                    citizenAI.tick();
+                }
+            }
             return false;
         }, () -> null, 1));
 
@@ -757,6 +783,48 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
         return false;
     }
 
+    /**
+     * Picks the AI level of detail depending on the distance to the closest player. Far away citizens run their AI less often, but catch up on the skipped ticks in one
+     * batch, so they do the same amount of work per game time as near citizens.
+     *
+     * @return false
+     */
+    private boolean updateAILevelOfDetail()
+    {
+        int levelOfDetail = 1;
+        final IColony colony = citizenColonyHandler.getColonyOrRegister();
+        if (MineColonies.getConfig().getServer().citizenAILevelOfDetail.get()
+              && getLastHurtByMob() == null
+              && colony != null
+              && !colony.getRaiderManager().isRaided())
+        {
+            final int nearDistance = MineColonies.getConfig().getServer().aiLevelOfDetailNearDistance.get();
+            final int farDistance = Math.max(nearDistance, MineColonies.getConfig().getServer().aiLevelOfDetailFarDistance.get());
+            final Player player = level.getNearestPlayer(getX(), getY(), getZ(), farDistance, EntitySelector.NO_SPECTATORS.and(EntitySelector.LIVING_ENTITY_STILL_ALIVE));
+            if (player == null)
+            {
+                levelOfDetail = 4;
+            }
+            else if (player.distanceToSqr(this) > nearDistance * nearDistance)
+            {
+                levelOfDetail = 2;
+            }
+        }
+
+        aiLevelOfDetail = levelOfDetail;
+        return false;
+    }
+
+    /**
+     * Get the current AI level of detail, the citizen AI runs every n-th time, catching up on the skipped ticks in one batch.
+     *
+     * @return the level of detail.
+     */
+    public int getAILevelOfDetail()
+    {
+        return aiLevelOfDetail;
+    }
+
     @Override
     public int getMaxAirSupply()
     {
@@ -837,11 +905,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(RAILS_SLOT) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(RAILS) > 0;
+        return getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(RAILS_SLOT) > 0;
     }
 
     /**
@@ -856,11 +924,11 @@ public class EntityCitizen extends AbstractEntityCitizen implements IThreatTable
             final IColonyView colonyView = IColonyManager.getInstance().getColonyView(citizenColonyHandler.getColonyId(), level.dimension());
             if (colonyView != null)
             {
-                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+                return colonyView.getResearchManager().getResearchEffects().getEffectStrength(VINES_SLOT) > 0;
             }
             return false;
         }
-        return getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(VINES) > 0;
+        return getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(VINES_SLOT) > 0;
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.minecolonies.core.entity.citizen.citizenhandlers;
 
+import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.entity.citizen.citizenhandlers.ICitizenItemHandler;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import com.minecolonies.api.util.*;
 import com.minecolonies.core.Network;
 import com.minecolonies.core.network.messages.client.BlockParticleEffectMessage;
@@ -23,6 +25,8 @@ import net.minecraftforge.network.PacketDistributor;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
+
 import static com.minecolonies.api.research.util.ResearchConstants.ARMOR_DURABILITY;
 import static com.minecolonies.api.research.util.ResearchConstants.TOOL_DURABILITY;
 import static com.minecolonies.api.util.constant.CitizenConstants.*;
@@ -35,6 +39,12 @@ import static com.minecolonies.api.util.constant.Constants.DEFAULT_VOLUME;
 @SuppressWarnings("PMD.ExcessiveImports")
 public class CitizenItemHandler implements ICitizenItemHandler
 {
+    /**
+     * Research effect slots of the durability effects, checked on every tool and armor damage.
+     */
+    private static final int TOOL_DURABILITY_SLOT  = ResearchEffectSlots.intern(TOOL_DURABILITY);
+    private static final int ARMOR_DURABILITY_SLOT = ResearchEffectSlots.intern(ARMOR_DURABILITY);
+
     /**
      * The citizen assigned to this manager.
      */
@@ -240,13 +250,13 @@ public class CitizenItemHandler implements ICitizenItemHandler
         }
 
         //Check if the effect exists first, to avoid unnecessary calls to random number generator.
-        if (citizen.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(TOOL_DURABILITY) > 0)
+        if (citizen.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(TOOL_DURABILITY_SLOT) > 0)
         {
             if (citizen.getRandom().nextDouble() > (1 / (1 + citizen.getCitizenColonyHandler()
                                                                .getColonyOrRegister()
                                                                .getResearchManager()
                                                                .getResearchEffects()
-                                                               .getEffectStrength(TOOL_DURABILITY))))
+                                                               .getEffectStrength(TOOL_DURABILITY_SLOT))))
             {
                 return;
             }
@@ -274,10 +284,17 @@ public class CitizenItemHandler implements ICitizenItemHandler
     @Override
     public void pickupItems()
     {
-        for (final ItemEntity item : CompatibilityUtils.getWorldFromCitizen(citizen).getEntitiesOfClass(ItemEntity.class,
-          new AABB(citizen.blockPosition())
-            .expandTowards(2.0F, 1.0F, 2.0F)
-            .expandTowards(-2.0F, -1.0F, -2.0F)))
+        final AABB area = new AABB(citizen.blockPosition())
+                            .expandTowards(2.0F, 1.0F, 2.0F)
+                            .expandTowards(-2.0F, -1.0F, -2.0F);
+        final IColony colony = citizen.getCitizenColonyHandler().getColony();
+        List<ItemEntity> items = colony == null ? null : colony.getDroppedItemManager().getItemsInArea(area);
+        if (items == null)
+        {
+            items = CompatibilityUtils.getWorldFromCitizen(citizen).getEntitiesOfClass(ItemEntity.class, area);
+        }
+
+        for (final ItemEntity item : items)
         {
             if (item != null && item.isAlive())
             {
@@ -323,13 +340,13 @@ public class CitizenItemHandler implements ICitizenItemHandler
     @Override
     public void updateArmorDamage(final double damage)
     {
-        if (citizen.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(ARMOR_DURABILITY) > 0)
+        if (citizen.getCitizenColonyHandler().getColonyOrRegister().getResearchManager().getResearchEffects().getEffectStrength(ARMOR_DURABILITY_SLOT) > 0)
         {
             if (citizen.getRandom().nextDouble() > (1 / (1 + citizen.getCitizenColonyHandler()
                                                                .getColonyOrRegister()
                                                                .getResearchManager()
                                                                .getResearchEffects()
-                                                               .getEffectStrength(ARMOR_DURABILITY))))
+                                                               .getEffectStrength(ARMOR_DURABILITY_SLOT))))
             {
                 return;
             }
@@ -12,11 +12,13 @@ import com.minecolonies.api.entity.mobs.AbstractEntityRaiderMob;
 import com.minecolonies.api.entity.pathfinding.IPathJob;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.core.MineColonies;
 import com.minecolonies.core.colony.buildings.AbstractBuilding;
 import com.minecolonies.core.colony.events.raid.HordeRaidEvent;
 import com.minecolonies.core.colony.events.raid.pirateEvent.ShipBasedRaiderUtils;
 import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
 import net.minecraft.core.BlockPos;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
 
@@ -27,6 +29,11 @@ import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
  */
 public class RaiderWalkAI implements IStateAI
 {
+    /**
+     * Range in which raiders of the same raid walk as a group.
+     */
+    private static final int GROUP_RANGE = 12;
+
     /**
      * The entity using this AI
      */
@@ -87,7 +94,7 @@ public class RaiderWalkAI implements IStateAI
 
                 final List<BlockPos> wayPoints = ((IColonyRaidEvent) event).getWayPoints();
                 final BlockPos moveToPos = ShipBasedRaiderUtils.chooseWaypointFor(wayPoints, raider.blockPosition(), targetBlock);
-                raider.getNavigation().moveToXYZ(moveToPos.getX(), moveToPos.getY(), moveToPos.getZ(), !moveToPos.equals(targetBlock) && moveToPos.distManhattan(wayPoints.get(0)) > 50 ? 1.8 : 1.1);
+                walkTowards(moveToPos, !moveToPos.equals(targetBlock) && moveToPos.distManhattan(wayPoints.get(0)) > 50 ? 1.8 : 1.1);
                 walkInBuildingState = false;
                 randomPathResult = null;
             }
@@ -139,14 +146,69 @@ public class RaiderWalkAI implements IStateAI
                     }
                 }
 
-                raider.getNavigation()
-                  .moveToXYZ(moveToPos.getX(), moveToPos.getY(), moveToPos.getZ(), !moveToPos.equals(targetBlock) && moveToPos.distManhattan(wayPoints.get(0)) > 50 ? 1.8 : 1.1);
+                walkTowards(moveToPos, !moveToPos.equals(targetBlock) && moveToPos.distManhattan(wayPoints.get(0)) > 50 ? 1.8 : 1.1);
             }
         }
 
         return false;
     }
 
+    /**
+     * Walk towards a position along the raid route, using the flow field of the position shared by the whole raid. With group pathing only the raider of a group
+     * closest to the position walks there, the others follow it on a short path and keep their distance through the usual entity pushing.
+     *
+     * @param moveToPos the position to walk to.
+     * @param speed     the speed to walk at.
+     */
+    private void walkTowards(final BlockPos moveToPos, final double speed)
+    {
+        if (MineColonies.getConfig().getServer().raiderGroupPathing.get())
+        {
+            final AbstractEntityRaiderMob leader = findGroupLeader(moveToPos);
+            if (leader != null)
+            {
+                final BlockPos leaderPos = leader.blockPosition();
+                raider.getNavigation().moveToXYZ(leaderPos.getX(), leaderPos.getY(), leaderPos.getZ(), speed);
+                return;
+            }
+        }
+
+        raider.getNavigation().moveToCommonTarget(moveToPos, speed);
+    }
+
+    /**
+     * Find the raider of the same raid close by, which is closest to the position and is already walking there.
+     *
+     * @param moveToPos the position the group walks to.
+     * @return the raider to follow or null if this raider should calculate its own path.
+     */
+    @Nullable
+    private AbstractEntityRaiderMob findGroupLeader(final BlockPos moveToPos)
+    {
+        if (raider.blockPosition().distSqr(moveToPos) <= GROUP_RANGE * GROUP_RANGE)
+        {
+            return null;
+        }
+
+        AbstractEntityRaiderMob leader = null;
+        double leaderDist = raider.blockPosition().distSqr(moveToPos);
+        for (final AbstractEntityRaiderMob other : raider.level.getEntitiesOfClass(AbstractEntityRaiderMob.class, raider.getBoundingBox().inflate(GROUP_RANGE)))
+        {
+            if (other == raider || other.getEventID() != raider.getEventID() || other.getNavigation().isDone())
+            {
+                continue;
+            }
+
+            final double dist = other.blockPosition().distSqr(moveToPos);
+            if (dist < leaderDist && moveToPos.equals(other.getNavigation().getDesiredPos()))
+            {
+                leader = other;
+                leaderDist = dist;
+            }
+        }
+        return leader;
+    }
+
     protected BlockPos findRandomPositionToWalkTo()
     {
         if (randomPathResult == null || randomPathResult.failedToReachDestination())
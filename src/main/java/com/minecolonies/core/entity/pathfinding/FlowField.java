@@ -0,0 +1,180 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2BooleanOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.LevelReader;
+import net.minecraft.world.level.pathfinder.Node;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Map of the paths from an area to a common target. Every mapped node knows the next node towards the target, so a path to the target is read from the field instead of
+ * searched. The field is searched from the target outwards, nodes which can only be reached by dropping down are left out as they can not be walked back up.
+ */
+public class FlowField
+{
+    /**
+     * The target all paths lead to.
+     */
+    private final BlockPos target;
+
+    /**
+     * The mapped nodes by position.
+     */
+    private final Long2ObjectOpenHashMap<MNode> nodes = new Long2ObjectOpenHashMap<>();
+
+    /**
+     * The bounds of the mapped area.
+     */
+    private int minX = Integer.MAX_VALUE;
+    private int minY = Integer.MAX_VALUE;
+    private int minZ = Integer.MAX_VALUE;
+    private int maxX = Integer.MIN_VALUE;
+    private int maxY = Integer.MIN_VALUE;
+    private int maxZ = Integer.MIN_VALUE;
+
+    /**
+     * Create the field from the nodes of a search starting at the target.
+     *
+     * @param target       the target.
+     * @param visitedNodes the visited nodes of the search.
+     */
+    public FlowField(@NotNull final BlockPos target, @NotNull final List<MNode> visitedNodes)
+    {
+        this.target = target;
+
+        final Reference2BooleanOpenHashMap<MNode> walkable = new Reference2BooleanOpenHashMap<>(visitedNodes.size());
+        final List<MNode> chain = new ArrayList<>();
+        for (final MNode node : visitedNodes)
+        {
+            // Follow the chain up to the first node with a known result, then apply the result back down.
+            MNode current = node;
+            boolean result = true;
+            while (current != null && current.parent != null)
+            {
+                if (walkable.containsKey(current))
+                {
+                    result = walkable.getBoolean(current);
+                    break;
+                }
+
+                chain.add(current);
+                if (!canWalkToParent(current) || chain.size() > visitedNodes.size())
+                {
+                    result = false;
+                    break;
+                }
+                current = current.parent;
+            }
+
+            for (final MNode chainNode : chain)
+            {
+                walkable.put(chainNode, result);
+            }
+            chain.clear();
+
+            if (result)
+            {
+                addNode(node);
+            }
+        }
+    }
+
+    /**
+     * Check if the step from a node of the field to its parent can be walked, the search itself walked from the parent to the node.
+     *
+     * @param node the node.
+     * @return true if so.
+     */
+    private static boolean canWalkToParent(@NotNull final MNode node)
+    {
+        return node.parent.y - node.y <= 1 || node.isLadder() || node.parent.isLadder();
+    }
+
+    /**
+     * Add a node to the field.
+     *
+     * @param node the node.
+     */
+    private void addNode(@NotNull final MNode node)
+    {
+        nodes.put(BlockPos.asLong(node.x, node.y, node.z), node);
+        minX = Math.min(minX, node.x);
+        minY = Math.min(minY, node.y);
+        minZ = Math.min(minZ, node.z);
+        maxX = Math.max(maxX, node.x);
+        maxY = Math.max(maxY, node.y);
+        maxZ = Math.max(maxZ, node.z);
+    }
+
+    /**
+     * Get the target of the field.
+     *
+     * @return the target.
+     */
+    public BlockPos getTarget()
+    {
+        return target;
+    }
+
+    /**
+     * Check if a block change at the given position may affect the field.
+     *
+     * @param pos the position.
+     * @return true if so.
+     */
+    public boolean isAffectedBy(@NotNull final BlockPos pos)
+    {
+        return pos.getX() >= minX - 1 && pos.getX() <= maxX + 1
+                 && pos.getY() >= minY - 2 && pos.getY() <= maxY + 2
+                 && pos.getZ() >= minZ - 1 && pos.getZ() <= maxZ + 1;
+    }
+
+    /**
+     * Read the path from a position to the target.
+     *
+     * @param world the world, for ladder directions.
+     * @param start the position to start at.
+     * @return the path or null if the position is not part of the field.
+     */
+    @Nullable
+    public Path getPathFrom(@NotNull final LevelReader world, @NotNull final BlockPos start)
+    {
+        MNode node = nodes.get(start.asLong());
+        if (node == null)
+        {
+            return null;
+        }
+
+        final List<Node> points = new ArrayList<>();
+        PathPointExtended previous = null;
+        while (node != null)
+        {
+            final BlockPos pos = new BlockPos(node.x, node.y, node.z);
+            final PathPointExtended point = new PathPointExtended(pos);
+            if (node.isLadder())
+            {
+                point.setOnLadder(true);
+                if (node.parent != null && node.parent.y > node.y)
+                {
+                    PathfindingUtils.setLadderFacing(world, pos, point);
+                }
+            }
+
+            if (previous != null)
+            {
+                point.cameFrom = previous;
+            }
+            previous = point;
+            points.add(point);
+            node = node.parent;
+        }
+
+        return new Path(points, target, true);
+    }
+}
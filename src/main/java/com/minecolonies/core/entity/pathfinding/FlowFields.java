@@ -0,0 +1,227 @@
+package com.minecolonies.core.entity.pathfinding;
+
+import com.minecolonies.core.entity.pathfinding.pathjobs.PathJobFlowField;
+import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Static cache of the flow fields of common targets. A field is calculated once per target, entity type and movement abilities in the background. Block changes in its area mark it dirty, it is
+ * then calculated again after a short delay while the old field keeps being used. Fields which were not used for a while are dropped. Only accessed from the server thread.
+ */
+public final class FlowFields
+{
+    /**
+     * Time in ticks after which an unused field is dropped.
+     */
+    private static final int UNUSED_TIMEOUT = 20 * 60;
+
+    /**
+     * Min time in ticks between two calculations of the same field, so frequent block changes do not keep the pathfinding threads busy.
+     */
+    private static final int MIN_REBUILD_INTERVAL = 20 * 10;
+
+    /**
+     * Time in ticks after which a field is calculated again, to pick up changes which are not block updates.
+     */
+    private static final int MAX_AGE = 20 * 60 * 5;
+
+    /**
+     * The fields per dimension.
+     */
+    private static final Map<ResourceKey<Level>, Map<FieldKey, FieldEntry>> fields = new HashMap<>();
+
+    /**
+     * Key of a field, the target, the entity type whose pathing options it uses and the movement abilities of those options.
+     */
+    private record FieldKey(BlockPos target, EntityType<?> entityType, int abilities) {}
+
+    /**
+     * A cached field and the job calculating its next version.
+     */
+    private static class FieldEntry
+    {
+        /**
+         * The range mapped around the target.
+         */
+        private final int range;
+
+        /**
+         * The last calculation of the field.
+         */
+        private PathResult<PathJobFlowField> result;
+
+        /**
+         * The last finished field.
+         */
+        @Nullable
+        private FlowField field;
+
+        /**
+         * The game time the last calculation was started at.
+         */
+        private long calculatedTime;
+
+        /**
+         * The game time the field was used last.
+         */
+        private long lastUsedTime;
+
+        /**
+         * If a block in the area changed since the last calculation started.
+         */
+        private boolean dirty = false;
+
+        private FieldEntry(final int range, final long gameTime)
+        {
+            this.range = range;
+            this.lastUsedTime = gameTime;
+        }
+    }
+
+    private FlowFields()
+    {
+        //Hides default constructor.
+    }
+
+    /**
+     * Get the field towards a target, starting its calculation if there is none.
+     *
+     * @param world          the world.
+     * @param target         the target.
+     * @param range          the range around the target to map.
+     * @param entityType     the entity type which uses the field.
+     * @param pathingOptions the pathing options of that entity type.
+     * @return the field or null if it is not calculated yet.
+     */
+    @Nullable
+    public static FlowField getOrRequest(
+      @NotNull final Level world,
+      @NotNull final BlockPos target,
+      final int range,
+      @NotNull final EntityType<?> entityType,
+      @NotNull final PathingOptions pathingOptions)
+    {
+        final long gameTime = world.getGameTime();
+        final Map<FieldKey, FieldEntry> dimensionFields = fields.computeIfAbsent(world.dimension(), key -> new HashMap<>());
+        dimensionFields.values().removeIf(entry -> gameTime - entry.lastUsedTime > UNUSED_TIMEOUT);
+
+        final FieldKey key = new FieldKey(target.immutable(), entityType, getAbilities(pathingOptions));
+        FieldEntry entry = dimensionFields.get(key);
+        if (entry == null)
+        {
+            entry = new FieldEntry(range, gameTime);
+            dimensionFields.put(key, entry);
+            startCalculation(world, key, entry, pathingOptions);
+        }
+
+        entry.lastUsedTime = gameTime;
+        if (entry.result.isDone())
+        {
+            if (entry.result.getJob() != null && entry.result.getJob().getFlowField() != null)
+            {
+                entry.field = entry.result.getJob().getFlowField();
+            }
+
+            if ((entry.dirty && gameTime - entry.calculatedTime > MIN_REBUILD_INTERVAL) || gameTime - entry.calculatedTime > MAX_AGE)
+            {
+                startCalculation(world, key, entry, pathingOptions);
+            }
+        }
+
+        return entry.field;
+    }
+
+    /**
+     * Get the movement abilities of pathing options which change the reachable area of a field, rails are never used by fields.
+     *
+     * @param pathingOptions the pathing options.
+     * @return the abilities as bit flags.
+     */
+    private static int getAbilities(@NotNull final PathingOptions pathingOptions)
+    {
+        int abilities = 0;
+        abilities |= pathingOptions.canSwim() ? 1 : 0;
+        abilities |= pathingOptions.canWalkUnderWater() ? 1 << 1 : 0;
+        abilities |= pathingOptions.canEnterDoors() ? 1 << 2 : 0;
+        abilities |= pathingOptions.canOpenDoors() ? 1 << 3 : 0;
+        abilities |= pathingOptions.canClimbAdvanced() ? 1 << 4 : 0;
+        abilities |= pathingOptions.canPassDanger() ? 1 << 5 : 0;
+        abilities |= pathingOptions.canDrop ? 1 << 6 : 0;
+        return abilities;
+    }
+
+    /**
+     * Start the calculation of a field.
+     *
+     * @param world          the world.
+     * @param key            the key of the field.
+     * @param entry          the entry to calculate.
+     * @param pathingOptions the pathing options to use.
+     */
+    private static void startCalculation(@NotNull final Level world, @NotNull final FieldKey key, @NotNull final FieldEntry entry, @NotNull final PathingOptions pathingOptions)
+    {
+        final PathJobFlowField job = new PathJobFlowField(world, key.target(), entry.range);
+        job.getPathingOptions().importFrom(pathingOptions);
+        job.getPathingOptions().setCanUseRails(false);
+        entry.result = job.getResult();
+        entry.result.startJob(Pathfinding.getExecutor());
+        entry.calculatedTime = world.getGameTime();
+        entry.dirty = false;
+    }
+
+    /**
+     * Mark all fields of the dimension which may be affected by a block change as dirty.
+     *
+     * @param world the world.
+     * @param pos   the changed position.
+     */
+    public static void onBlockChanged(@NotNull final Level world, @NotNull final BlockPos pos)
+    {
+        final Map<FieldKey, FieldEntry> dimensionFields = fields.get(world.dimension());
+        if (dimensionFields == null || dimensionFields.isEmpty())
+        {
+            return;
+        }
+
+        for (final Map.Entry<FieldKey, FieldEntry> mapEntry : dimensionFields.entrySet())
+        {
+            final FieldEntry entry = mapEntry.getValue();
+            if (entry.dirty)
+            {
+                continue;
+            }
+
+            if (entry.result.isDone())
+            {
+                entry.dirty = entry.field != null && entry.field.isAffectedBy(pos);
+            }
+            else
+            {
+                final BlockPos target = mapEntry.getKey().target();
+                entry.dirty = Math.abs(target.getX() - pos.getX()) <= entry.range * 2 && Math.abs(target.getZ() - pos.getZ()) <= entry.range * 2;
+            }
+        }
+    }
+
+    /**
+     * Drop all fields of a dimension.
+     *
+     * @param world the world.
+     */
+    public static void clear(@NotNull final Level world)
+    {
+        final Map<FieldKey, FieldEntry> dimensionFields = fields.remove(world.dimension());
+        if (dimensionFields != null)
+        {
+            dimensionFields.values().forEach(entry -> entry.result.cancel());
+        }
+    }
+}
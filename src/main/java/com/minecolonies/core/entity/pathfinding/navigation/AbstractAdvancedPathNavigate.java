@@ -74,6 +74,15 @@ public abstract class AbstractAdvancedPathNavigate extends GroundPathNavigation
      */
     public abstract PathResult<? extends IPathJob> moveToXYZ(final double x, final double y, final double z, final double speed);
 
+    /**
+     * Move to a target many entities walk to, following the shared flow field of the target when possible.
+     *
+     * @param target the target.
+     * @param speed  the speed to walk.
+     * @return true if the entity is walking or about to walk towards the target.
+     */
+    public abstract boolean moveToCommonTarget(final BlockPos target, final double speed);
+
     /**
      * Used to path away from a ourEntity.
      *
@@ -8,6 +8,9 @@ import com.minecolonies.api.entity.other.MinecoloniesMinecart;
 import com.minecolonies.api.entity.pathfinding.IStuckHandler;
 import com.minecolonies.api.util.*;
 import com.minecolonies.api.util.constant.ColonyConstants;
+import com.minecolonies.core.MineColonies;
+import com.minecolonies.core.entity.pathfinding.FlowField;
+import com.minecolonies.core.entity.pathfinding.FlowFields;
 import com.minecolonies.core.entity.pathfinding.PathFindingStatus;
 import com.minecolonies.core.entity.pathfinding.PathPointExtended;
 import com.minecolonies.core.entity.pathfinding.Pathfinding;
@@ -56,6 +59,11 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     public static final  int    MAX_SPEED_ALLOWED        = 2;
     public static final  double MIN_SPEED_ALLOWED        = 0.1;
 
+    /**
+     * Range mapped around a common target by its flow field.
+     */
+    private static final int FLOW_FIELD_RANGE = 64;
+
     @Nullable
     private PathResult<AbstractPathJob> pathResult;
 
@@ -114,6 +122,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
      */
     private Vec3 wantedPosition = null;
 
+    /**
+     * The common target whose flow field path is followed currently.
+     */
+    @Nullable
+    private BlockPos flowFieldTarget = null;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -483,6 +497,45 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
           desiredPos, speedFactor, true);
     }
 
+    @Override
+    public boolean moveToCommonTarget(final BlockPos target, final double speedFactor)
+    {
+        if (!MineColonies.getConfig().getServer().flowFieldPathing.get() || pauseTicks > 0)
+        {
+            return moveToXYZ(target.getX(), target.getY(), target.getZ(), speedFactor) != null;
+        }
+
+        if (target.equals(flowFieldTarget) && !isDone())
+        {
+            return true;
+        }
+
+        final BlockPos start = PathfindingUtils.prepareStart(ourEntity);
+        final FlowField field = start.distManhattan(target) > FLOW_FIELD_RANGE * 2
+                                  ? null
+                                  : FlowFields.getOrRequest(level, target, FLOW_FIELD_RANGE, ourEntity.getType(), getPathingOptions());
+        final Path path = field == null ? null : field.getPathFrom(level, start);
+        if (path == null)
+        {
+            return moveToXYZ(target.getX(), target.getY(), target.getZ(), speedFactor) != null;
+        }
+
+        stop();
+        if (speedFactor > MAX_SPEED_ALLOWED || speedFactor < MIN_SPEED_ALLOWED)
+        {
+            Log.getLogger().error("Tried to set a bad speed:" + speedFactor + " for entity:" + ourEntity, new Exception());
+            return false;
+        }
+
+        this.destination = target;
+        this.originalDestination = target;
+        this.desiredPos = target;
+        this.desiredPosTimeout = 50 * 20;
+        this.walkSpeedFactor = speedFactor;
+        this.flowFieldTarget = target;
+        return moveTo(path, getSpeedFactor());
+    }
+
     @Override
     public boolean tryMoveToBlockPos(final BlockPos pos, final double speedFactor)
     {
@@ -1102,6 +1155,7 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
 
         desiredPos = BlockPos.ZERO;
         destination = null;
+        flowFieldTarget = null;
         super.stop();
     }
 
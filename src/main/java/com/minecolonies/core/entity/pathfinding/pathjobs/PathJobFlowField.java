@@ -0,0 +1,111 @@
+package com.minecolonies.core.entity.pathfinding.pathjobs;
+
+import com.minecolonies.core.entity.pathfinding.FlowField;
+import com.minecolonies.core.entity.pathfinding.MNode;
+import com.minecolonies.core.entity.pathfinding.pathresults.PathResult;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.pathfinder.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Job that maps the area around a target, searching from the target outwards without a destination. The result is a {@link FlowField} which all entities walking to the
+ * same target can follow instead of each calculating their own path.
+ */
+public class PathJobFlowField extends AbstractPathJob
+{
+    /**
+     * Max amount of nodes a flow field maps.
+     */
+    private static final int MAX_FIELD_NODES = 20000;
+
+    /**
+     * The nodes visited by the search.
+     */
+    private final List<MNode> visitedNodes = new ArrayList<>();
+
+    /**
+     * The target of the field.
+     */
+    private final BlockPos target;
+
+    /**
+     * The field, set when the search is done.
+     */
+    private FlowField flowField;
+
+    /**
+     * Prepares the flow field job.
+     *
+     * @param world  the world.
+     * @param target the target all paths of the field lead to.
+     * @param range  the range around the target to map.
+     */
+    public PathJobFlowField(final Level world, @NotNull final BlockPos target, final int range)
+    {
+        super(world, target, range, new PathResult<PathJobFlowField>(), null);
+        this.target = target.immutable();
+        maxNodes = Math.min(MAX_FIELD_NODES, Math.max(10, range) * Math.max(10, range) * 4);
+    }
+
+    @Nullable
+    @Override
+    protected Path search()
+    {
+        final Path path = super.search();
+        if (!Thread.currentThread().isInterrupted())
+        {
+            flowField = new FlowField(target, visitedNodes);
+        }
+        return path;
+    }
+
+    @Override
+    protected void visitNode(final MNode node)
+    {
+        if (!node.isVisited())
+        {
+            visitedNodes.add(node);
+        }
+        super.visitNode(node);
+    }
+
+    @Override
+    protected double computeHeuristic(final int x, final int y, final int z)
+    {
+        return 0;
+    }
+
+    @Override
+    protected boolean isAtDestination(final MNode n)
+    {
+        return false;
+    }
+
+    @Override
+    protected double getEndNodeScore(final MNode n)
+    {
+        return n.getCost();
+    }
+
+    /**
+     * Get the calculated field.
+     *
+     * @return the field or null if the search is not done yet.
+     */
+    @Nullable
+    public FlowField getFlowField()
+    {
+        return flowField;
+    }
+
+    @Override
+    public String toString()
+    {
+        return super.toString() + " flowfield target:" + target;
+    }
+}
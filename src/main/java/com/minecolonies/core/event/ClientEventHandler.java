@@ -8,6 +8,7 @@ import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.blocks.interfaces.IBuildingBrowsableBlock;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.event.ClientChunkUpdatedEvent;
 import com.minecolonies.api.colony.buildings.modules.IBuildingModule;
 import com.minecolonies.api.colony.buildings.modules.ICraftingBuildingModule;
 import com.minecolonies.api.colony.buildings.registry.BuildingEntry;
@@ -17,6 +18,7 @@ import com.minecolonies.api.util.constant.ColonyConstants;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.TranslationConstants;
 import com.minecolonies.core.client.gui.WindowBuildingBrowser;
+import com.minecolonies.core.client.render.worldevent.ColonyBlueprintRenderer;
 import com.minecolonies.core.client.render.worldevent.ColonyBorderRenderer;
 import com.minecolonies.core.client.render.worldevent.WorldEventContext;
 import com.minecolonies.core.colony.crafting.CustomRecipe;
@@ -88,10 +90,17 @@ public class ClientEventHandler
         }
     }
 
+    @SubscribeEvent
+    public static void onColonyChunkDataUpdated(@NotNull final ClientChunkUpdatedEvent event)
+    {
+        ColonyBorderRenderer.onChunkUpdated(event.getChunk().getPos());
+    }
+
     @SubscribeEvent
     public static void onPlayerLogout(@NotNull final ClientPlayerNetworkEvent.LoggingOut event)
     {
         ColonyBorderRenderer.cleanup();
+        ColonyBlueprintRenderer.cleanup();
         WindowBuildingBrowser.clearCache();
     }
 
@@ -3,11 +3,10 @@ package com.minecolonies.core.event;
 import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.core.MineColonies;
-import com.minecolonies.core.Network;
 import com.minecolonies.core.colony.crafting.CustomRecipeManager;
 import com.minecolonies.core.compatibility.CraftingTagAuditor;
 import com.minecolonies.core.datalistener.QuestJsonListener;
-import com.minecolonies.core.network.messages.client.UpdateClientWithCompatibilityMessage;
+import com.minecolonies.core.network.SyncSnapshot;
 import com.minecolonies.core.util.FurnaceRecipes;
 import com.mojang.authlib.GameProfile;
 import net.minecraft.client.Minecraft;
@@ -54,18 +53,17 @@ public class DataPackSyncEventHandler
             IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().discover(server.getRecipeManager(), server.overworld());
             CustomRecipeManager.getInstance().resolveTemplates();
             CustomRecipeManager.getInstance().buildLootData(server.getLootData(), server.overworld());
+            SyncSnapshot.invalidate();
         }
 
         /**
          * Send custom sync packets to the given player.
          *
-         * @param player    the player to send the sync packets to.
-         * @param compatMsg a cached copy of this message, to avoid rebuilding it for each player.
+         * @param player the player to send the sync packets to.
          */
-        private static void sendPackets(@NotNull final ServerPlayer player,
-                                        @NotNull final UpdateClientWithCompatibilityMessage compatMsg)
+        private static void sendPackets(@NotNull final ServerPlayer player)
         {
-            Network.getNetwork().sendToPlayer(compatMsg, player);
+            SyncSnapshot.send(player, SyncSnapshot.Type.COMPATIBILITY);
             CustomRecipeManager.getInstance().sendCustomRecipeManagerPackets(player);
             IGlobalResearchTree.getInstance().sendGlobalResearchTreePackets(player);
             QuestJsonListener.sendGlobalQuestPackets(player);
@@ -91,18 +89,17 @@ public class DataPackSyncEventHandler
                 discoverCompatLists(server);
 
                 // and then finally update every player with the results
-                final UpdateClientWithCompatibilityMessage compatMsg = new UpdateClientWithCompatibilityMessage(true);
                 for (final ServerPlayer player : event.getPlayerList().getPlayers())
                 {
                     if (player.getGameProfile() != owner)   // don't need to send them in SP, or LAN owner
                     {
-                        sendPackets(player, compatMsg);
+                        sendPackets(player);
                     }
                 }
             }
             else if (event.getPlayer().getGameProfile() != owner)
             {
-                sendPackets(event.getPlayer(), new UpdateClientWithCompatibilityMessage(true));
+                sendPackets(event.getPlayer());
             }
 
             if (MineColonies.getConfig().getServer().auditCraftingTags.get() &&
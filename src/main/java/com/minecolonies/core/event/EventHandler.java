@@ -27,19 +27,24 @@ import com.minecolonies.core.blocks.MinecoloniesCropBlock;
 import com.minecolonies.core.blocks.huts.BlockHutTownHall;
 import com.minecolonies.core.client.render.RenderBipedCitizen;
 import com.minecolonies.core.colony.ColonyManager;
+import com.minecolonies.core.colony.buildings.modules.AnimalHerdingModule;
+import com.minecolonies.core.colony.buildings.modules.ForestMapModule;
 import com.minecolonies.core.colony.buildings.modules.TavernBuildingModule;
 import com.minecolonies.core.colony.eventhooks.citizenEvents.VisitorSpawnedEvent;
 import com.minecolonies.core.colony.interactionhandling.RecruitmentInteraction;
 import com.minecolonies.core.colony.jobs.AbstractJobGuard;
 import com.minecolonies.core.colony.jobs.JobFarmer;
+import com.minecolonies.core.colony.managers.DroppedItemManager;
 import com.minecolonies.core.colony.requestsystem.locations.EntityLocation;
 import com.minecolonies.core.commands.EntryPoint;
 import com.minecolonies.core.entity.citizen.EntityCitizen;
 import com.minecolonies.core.entity.mobs.EntityMercenary;
+import com.minecolonies.core.entity.pathfinding.FlowFields;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesChunkCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldCapabilityProvider;
 import com.minecolonies.core.event.capabilityproviders.MinecoloniesWorldColonyManagerCapabilityProvider;
 import com.minecolonies.core.items.ItemBannerRallyGuards;
+import com.minecolonies.core.network.SyncSnapshot;
 import com.minecolonies.core.network.messages.client.OpenSuggestionWindowMessage;
 import com.minecolonies.core.network.messages.client.UpdateChunkCapabilityMessage;
 import com.minecolonies.core.network.messages.client.UpdateChunkRangeCapabilityMessage;
@@ -54,6 +59,8 @@ import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.util.Mth;
 import net.minecraft.world.entity.*;
 import net.minecraft.world.entity.ai.goal.target.NearestAttackableTargetGoal;
+import net.minecraft.world.entity.animal.Animal;
+import net.minecraft.world.entity.item.ItemEntity;
 import net.minecraft.world.entity.monster.Enemy;
 import net.minecraft.world.entity.monster.ZombieVillager;
 import net.minecraft.world.entity.player.Player;
@@ -78,6 +85,7 @@ import net.minecraft.world.level.storage.loot.entries.LootItem;
 import net.minecraft.world.level.storage.loot.predicates.LootItemRandomChanceCondition;
 import net.minecraftforge.event.*;
 import net.minecraftforge.event.entity.EntityJoinLevelEvent;
+import net.minecraftforge.event.entity.EntityLeaveLevelEvent;
 import net.minecraftforge.event.entity.EntityTravelToDimensionEvent;
 import net.minecraftforge.event.entity.living.LivingConversionEvent;
 import net.minecraftforge.event.entity.living.MobSpawnEvent;
@@ -86,6 +94,7 @@ import net.minecraftforge.event.entity.player.PlayerInteractEvent;
 import net.minecraftforge.event.level.BlockEvent;
 import net.minecraftforge.event.level.ChunkEvent;
 import net.minecraftforge.event.level.LevelEvent;
+import net.minecraftforge.event.level.SaplingGrowTreeEvent;
 import net.minecraftforge.eventbus.api.Event;
 import net.minecraftforge.eventbus.api.SubscribeEvent;
 import org.jetbrains.annotations.NotNull;
@@ -157,6 +166,108 @@ public class EventHandler
         }
     }
 
+    /**
+     * Track item entities joining the world, after other mods had the chance to cancel the event.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onItemEntityAdded(@NotNull final EntityJoinLevelEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getEntity() instanceof ItemEntity item)
+        {
+            DroppedItemManager.onItemJoinedLevel(item);
+        }
+    }
+
+    /**
+     * Let the herders of a colony track animals joining the world in their building area.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onAnimalAdded(@NotNull final EntityJoinLevelEvent event)
+    {
+        if (!event.getLevel().isClientSide()
+              && event.getEntity() instanceof Animal animal
+              && WorldUtil.isBlockLoaded(event.getLevel(), animal.blockPosition()))
+        {
+            final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(event.getLevel(), animal.blockPosition());
+            if (colony != null)
+            {
+                for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+                {
+                    for (final AnimalHerdingModule module : building.getModulesByType(AnimalHerdingModule.class))
+                    {
+                        module.onAnimalJoined(animal);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Let the herders of a colony stop tracking animals leaving the world, after dying or unloading.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onAnimalRemoved(@NotNull final EntityLeaveLevelEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getEntity() instanceof Animal animal)
+        {
+            final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(event.getLevel(), animal.blockPosition());
+            if (colony != null)
+            {
+                for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+                {
+                    for (final AnimalHerdingModule module : building.getModulesByType(AnimalHerdingModule.class))
+                    {
+                        module.onAnimalLeft(animal);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Let the lumberjacks of a colony know about saplings growing into trees in their work area.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent(priority = LOWEST)
+    public static void onSaplingGrow(@NotNull final SaplingGrowTreeEvent event)
+    {
+        if (event.getResult() != Event.Result.DENY && event.getLevel() instanceof Level level && !level.isClientSide())
+        {
+            final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(level, event.getPos());
+            if (colony != null)
+            {
+                for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+                {
+                    for (final ForestMapModule module : building.getModulesByType(ForestMapModule.class))
+                    {
+                        module.onSaplingGrow(event.getPos());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop tracking item entities leaving the world.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onItemEntityRemoved(@NotNull final EntityLeaveLevelEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getEntity() instanceof ItemEntity item)
+        {
+            DroppedItemManager.onItemLeftLevel(item);
+        }
+    }
+
     private static void buildCropDrops()
     {
         cropDrops = new HashMap<>();
@@ -493,6 +604,7 @@ public class EventHandler
                 colony.getPackageManager().removeImportantColonyPlayer(player);
                 playerPositions.remove(player.getUUID());
             }
+            SyncSnapshot.onPlayerLoggedOut(player);
         }
     }
 
@@ -558,6 +670,20 @@ public class EventHandler
         }
     }
 
+    /**
+     * Event called on block changes, marks the flow fields around the block for recalculation.
+     *
+     * @param event the event.
+     */
+    @SubscribeEvent
+    public static void onNeighborNotify(@NotNull final BlockEvent.NeighborNotifyEvent event)
+    {
+        if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level world)
+        {
+            FlowFields.onBlockChanged(world, event.getPos());
+        }
+    }
+
     /**
      * Event when a player right clicks a block, or right clicks with an item. Event gets cancelled when player has no permission. Event gets cancelled when the player has no
      * permission to place a hut, and tried it.
@@ -766,6 +892,7 @@ public class EventHandler
         if (!event.getLevel().isClientSide() && event.getLevel() instanceof Level)
         {
             IColonyManager.getInstance().onWorldUnload((Level) event.getLevel());
+            FlowFields.clear((Level) event.getLevel());
         }
         if (event.getLevel().isClientSide())
         {
@@ -259,6 +259,10 @@ public class NetworkChannel
 
         // Crafting GUI
         registerMessage(++idx, SwitchRecipeCraftingTeachingMessage.class, SwitchRecipeCraftingTeachingMessage::new);
+
+        // Cached datapack sync
+        registerMessage(++idx, SyncSnapshotHashMessage.class, SyncSnapshotHashMessage::new);
+        registerMessage(++idx, RequestSyncSnapshotMessage.class, RequestSyncSnapshotMessage::new);
     }
 
     private void setupInternalMessages()
@@ -0,0 +1,422 @@
+package com.minecolonies.core.network;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.colony.crafting.CustomRecipeManager;
+import com.minecolonies.core.colony.crafting.CustomRecipeManagerMessage;
+import com.minecolonies.core.network.messages.client.SyncSnapshotHashMessage;
+import com.minecolonies.core.network.messages.client.UpdateClientWithCompatibilityMessage;
+import com.minecolonies.core.util.FurnaceRecipes;
+import io.netty.buffer.Unpooled;
+import net.minecraft.client.Minecraft;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Compressed snapshot of data the server syncs to every joining client. The server builds each snapshot once per reload and first only sends its hash, clients which
+ * cached a snapshot with that hash apply their copy and only the others request the data.
+ * The hash covers the data and the numeric registry ids it is written with, so a cached copy is only used with the same ids.
+ */
+public final class SyncSnapshot
+{
+    /**
+     * The synced data sets.
+     */
+    public enum Type
+    {
+        COMPATIBILITY,
+        CUSTOM_RECIPES
+    }
+
+    /**
+     * Folder of the client cache, within the minecolonies folder of the game directory.
+     */
+    private static final String CACHE_FOLDER = "snapshots";
+
+    /**
+     * Max amount of cached snapshots per type, e.g. for players switching between servers.
+     */
+    private static final int MAX_CACHED_SNAPSHOTS = 4;
+
+    /**
+     * The current snapshots of the server.
+     */
+    private static final Map<Type, SyncSnapshot> serverSnapshots = new EnumMap<>(Type.class);
+
+    /**
+     * The data sets each player was sent a hash of and did not answer yet. Each answer removes the data set, the entry of the player is removed when it is
+     * empty or the player logs out.
+     */
+    private static final Map<UUID, Set<Type>> pendingRequests = new HashMap<>();
+
+    /**
+     * The synced data set.
+     */
+    private final Type type;
+
+    /**
+     * The hash of the data and registry ids.
+     */
+    private final String hash;
+
+    /**
+     * The compressed data.
+     */
+    private final byte[] data;
+
+    private SyncSnapshot(final Type type, final String hash, final byte[] data)
+    {
+        this.type = type;
+        this.hash = hash;
+        this.data = data;
+    }
+
+    /**
+     * Get the current snapshot of a data set, building it if the data changed since the last one.
+     *
+     * @param type the data set.
+     * @return the snapshot.
+     */
+    public static synchronized SyncSnapshot get(@NotNull final Type type)
+    {
+        return serverSnapshots.computeIfAbsent(type, SyncSnapshot::build);
+    }
+
+    /**
+     * Drop the current snapshots, after the synced data was discovered again.
+     */
+    public static synchronized void invalidate()
+    {
+        serverSnapshots.clear();
+        pendingRequests.clear();
+    }
+
+    /**
+     * Start the sync of a data set to a player by sending the hash of the current snapshot.
+     *
+     * @param player the player.
+     * @param type   the data set.
+     */
+    public static void send(@NotNull final ServerPlayer player, @NotNull final Type type)
+    {
+        synchronized (SyncSnapshot.class)
+        {
+            pendingRequests.computeIfAbsent(player.getUUID(), id -> EnumSet.noneOf(Type.class)).add(type);
+        }
+        Network.getNetwork().sendToPlayer(new SyncSnapshotHashMessage(type, get(type).getHash()), player);
+    }
+
+    /**
+     * Handle the answer of a player to a sent hash, sending the data of the current snapshot if the player has no cached copy. Each hash sent allows one answer,
+     * further answers are ignored.
+     *
+     * @param player    the player.
+     * @param type      the data set.
+     * @param needsData if the player has no cached copy.
+     */
+    public static void onAnswer(@NotNull final ServerPlayer player, @NotNull final Type type, final boolean needsData)
+    {
+        synchronized (SyncSnapshot.class)
+        {
+            final Set<Type> pending = pendingRequests.get(player.getUUID());
+            if (pending == null || !pending.remove(type))
+            {
+                return;
+            }
+            if (pending.isEmpty())
+            {
+                pendingRequests.remove(player.getUUID());
+            }
+        }
+
+        if (!needsData)
+        {
+            return;
+        }
+
+        final SyncSnapshot snapshot = get(type);
+        Network.getNetwork().sendToPlayer(type == Type.COMPATIBILITY ? new UpdateClientWithCompatibilityMessage(snapshot) : new CustomRecipeManagerMessage(snapshot), player);
+    }
+
+    /**
+     * Forget the unanswered hashes of a player which logged out.
+     *
+     * @param player the player.
+     */
+    public static synchronized void onPlayerLoggedOut(@NotNull final ServerPlayer player)
+    {
+        pendingRequests.remove(player.getUUID());
+    }
+
+    /**
+     * Build the snapshot of a data set.
+     *
+     * @param type the data set.
+     * @return the snapshot.
+     */
+    private static SyncSnapshot build(@NotNull final Type type)
+    {
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        if (type == Type.COMPATIBILITY)
+        {
+            IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().serialize(buf);
+        }
+        else
+        {
+            CustomRecipeManager.getInstance().serializeNetworkData(buf);
+        }
+
+        final byte[] payload = new byte[buf.readableBytes()];
+        buf.readBytes(payload);
+        buf.release();
+
+        final byte[] compressed = compress(payload);
+        Log.getLogger().info("Built {} sync snapshot, {} bytes compressed to {}", type, payload.length, compressed.length);
+        return new SyncSnapshot(type, hash(payload), compressed);
+    }
+
+    /**
+     * Hash the data of a snapshot together with the registry ids it uses.
+     *
+     * @param payload the uncompressed data.
+     * @return the hash.
+     */
+    private static String hash(final byte[] payload)
+    {
+        final Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putBytes(payload);
+        hashRegistry(hasher, BuiltInRegistries.ITEM);
+        hashRegistry(hasher, BuiltInRegistries.ENTITY_TYPE);
+        return hasher.hash().toString();
+    }
+
+    private static <T> void hashRegistry(final Hasher hasher, final Registry<T> registry)
+    {
+        for (final T entry : registry)
+        {
+            hasher.putInt(registry.getId(entry));
+            hasher.putString(registry.getKey(entry).toString(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static byte[] compress(final byte[] payload)
+    {
+        final Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION);
+        deflater.setInput(payload);
+        deflater.finish();
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(payload.length / 4 + 64);
+        final byte[] chunk = new byte[8192];
+        while (!deflater.finished())
+        {
+            out.write(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+        return out.toByteArray();
+    }
+
+    private static byte[] decompress(final byte[] compressed) throws DataFormatException
+    {
+        final Inflater inflater = new Inflater();
+        inflater.setInput(compressed);
+
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(compressed.length * 4);
+        final byte[] chunk = new byte[8192];
+        while (!inflater.finished())
+        {
+            final int length = inflater.inflate(chunk);
+            if (length == 0 && (inflater.needsInput() || inflater.needsDictionary()))
+            {
+                throw new DataFormatException("Truncated snapshot");
+            }
+            out.write(chunk, 0, length);
+        }
+        inflater.end();
+        return out.toByteArray();
+    }
+
+    /**
+     * Write the snapshot to a message.
+     *
+     * @param buf the buffer.
+     */
+    public void write(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeUtf(hash);
+        buf.writeByteArray(data);
+    }
+
+    /**
+     * Read a snapshot from a message.
+     *
+     * @param type the data set.
+     * @param buf  the buffer.
+     * @return the snapshot.
+     */
+    public static SyncSnapshot read(@NotNull final Type type, @NotNull final FriendlyByteBuf buf)
+    {
+        return new SyncSnapshot(type, buf.readUtf(), buf.readByteArray());
+    }
+
+    /**
+     * Get the hash of the snapshot.
+     *
+     * @return the hash.
+     */
+    public String getHash()
+    {
+        return hash;
+    }
+
+    /**
+     * Decompress the data of the snapshot.
+     *
+     * @return the data or null if it is corrupt.
+     */
+    @Nullable
+    private byte[] getPayload()
+    {
+        try
+        {
+            return decompress(data);
+        }
+        catch (final DataFormatException e)
+        {
+            Log.getLogger().warn("Failed to decompress {} sync snapshot", type, e);
+            return null;
+        }
+    }
+
+    /**
+     * Apply the snapshot to the client.
+     */
+    @OnlyIn(Dist.CLIENT)
+    public void apply()
+    {
+        final byte[] payload = getPayload();
+        if (payload == null)
+        {
+            return;
+        }
+
+        final FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.wrappedBuffer(payload));
+        if (type == Type.COMPATIBILITY)
+        {
+            FurnaceRecipes.getInstance().loadUtilityPredicates();
+            try
+            {
+                IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().deserialize(buf, Minecraft.getInstance().level);
+            }
+            catch (Exception e)
+            {
+                Log.getLogger().error("Failed to load compatibility manager", e);
+            }
+        }
+        else if (Minecraft.getInstance().level != null)
+        {
+            CustomRecipeManager.getInstance().handleCustomRecipeManagerMessage(buf);
+        }
+        buf.release();
+    }
+
+    /**
+     * Read a snapshot from the client cache.
+     *
+     * @param type the data set.
+     * @param hash the hash of the snapshot.
+     * @return the snapshot or null if it is not cached or does not match the hash.
+     */
+    @OnlyIn(Dist.CLIENT)
+    @Nullable
+    public static SyncSnapshot readCached(@NotNull final Type type, @NotNull final String hash)
+    {
+        final Path file = getCacheFolder().resolve(getCacheFileName(type, hash));
+        if (!Files.isRegularFile(file))
+        {
+            return null;
+        }
+
+        final SyncSnapshot snapshot;
+        try
+        {
+            snapshot = new SyncSnapshot(type, hash, Files.readAllBytes(file));
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Failed to read cached {} sync snapshot", type, e);
+            return null;
+        }
+
+        // the hash includes the registry ids of this client, so a copy cached with other ids does not match
+        final byte[] payload = snapshot.getPayload();
+        return payload != null && hash(payload).equals(hash) ? snapshot : null;
+    }
+
+    /**
+     * Write the snapshot to the client cache, dropping the oldest cached snapshots of the type.
+     */
+    @OnlyIn(Dist.CLIENT)
+    public void writeCache()
+    {
+        final Path folder = getCacheFolder();
+        try
+        {
+            Files.createDirectories(folder);
+            Files.write(folder.resolve(getCacheFileName(type, hash)), data);
+
+            final File[] cached = folder.toFile().listFiles((dir, name) -> name.startsWith(type.name().toLowerCase() + "-"));
+            if (cached != null && cached.length > MAX_CACHED_SNAPSHOTS)
+            {
+                Arrays.sort(cached, Comparator.comparingLong(File::lastModified).reversed());
+                for (int i = MAX_CACHED_SNAPSHOTS; i < cached.length; i++)
+                {
+                    Files.deleteIfExists(cached[i].toPath());
+                }
+            }
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Failed to cache {} sync snapshot", type, e);
+        }
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    private static Path getCacheFolder()
+    {
+        return Minecraft.getInstance().gameDirectory.toPath().resolve(FILENAME_MINECOLONIES_PATH).resolve(CACHE_FOLDER);
+    }
+
+    private static String getCacheFileName(final Type type, final String hash)
+    {
+        return type.name().toLowerCase() + "-" + hash + ".bin";
+    }
+}
@@ -0,0 +1,83 @@
+package com.minecolonies.core.network.messages.client;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.core.Network;
+import com.minecolonies.core.network.SyncSnapshot;
+import com.minecolonies.core.network.messages.server.RequestSyncSnapshotMessage;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tells the client the hash of the current snapshot of a synced data set. The client applies its cached copy or requests the data, and answers in both cases.
+ */
+public class SyncSnapshotHashMessage implements IMessage
+{
+    /**
+     * The synced data set.
+     */
+    private SyncSnapshot.Type type;
+
+    /**
+     * The hash of the current snapshot.
+     */
+    private String hash;
+
+    /**
+     * Empty constructor used when registering the message
+     */
+    public SyncSnapshotHashMessage()
+    {
+        super();
+    }
+
+    /**
+     * Send the hash of a snapshot.
+     *
+     * @param type the synced data set.
+     * @param hash the hash of the current snapshot.
+     */
+    public SyncSnapshotHashMessage(final SyncSnapshot.Type type, final String hash)
+    {
+        super();
+        this.type = type;
+        this.hash = hash;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        type = buf.readEnum(SyncSnapshot.Type.class);
+        hash = buf.readUtf();
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeEnum(type);
+        buf.writeUtf(hash);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.CLIENT;
+    }
+
+    @OnlyIn(Dist.CLIENT)
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final SyncSnapshot cached = SyncSnapshot.readCached(type, hash);
+        if (cached != null)
+        {
+            cached.apply();
+        }
+        Network.getNetwork().sendToServer(new RequestSyncSnapshotMessage(type, cached == null));
+    }
+}
@@ -1,24 +1,24 @@
 package com.minecolonies.core.network.messages.client;
 
-import com.minecolonies.api.IMinecoloniesAPI;
 import com.minecolonies.api.network.IMessage;
-import com.minecolonies.api.util.Log;
-import com.minecolonies.core.util.FurnaceRecipes;
-import io.netty.buffer.Unpooled;
-import net.minecraft.client.Minecraft;
-import net.minecraft.client.multiplayer.ClientLevel;
+import com.minecolonies.core.network.SyncSnapshot;
 import net.minecraft.network.FriendlyByteBuf;
+import net.minecraftforge.api.distmarker.Dist;
+import net.minecraftforge.api.distmarker.OnlyIn;
 import net.minecraftforge.fml.LogicalSide;
 import net.minecraftforge.network.NetworkEvent;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 /**
- * Message to update the recipes on the client side.
+ * Message to update the recipes on the client side, sent when the client has no cached copy of the current snapshot.
  */
 public class UpdateClientWithCompatibilityMessage implements IMessage
 {
-    private FriendlyByteBuf buffer;
+    /**
+     * The compressed snapshot of the compatibility manager.
+     */
+    private SyncSnapshot snapshot;
 
     /**
      * Empty public constructor.
@@ -31,27 +31,24 @@ public class UpdateClientWithCompatibilityMessage implements IMessage
     /**
      * Message creation.
      *
-     * @param dummy just pass true to initialize the message for sending.
+     * @param snapshot the snapshot of the compatibility manager.
      */
-    public UpdateClientWithCompatibilityMessage(final boolean dummy)
+    public UpdateClientWithCompatibilityMessage(final SyncSnapshot snapshot)
     {
         super();
-
-        this.buffer = new FriendlyByteBuf(Unpooled.buffer());
-        IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().serialize(this.buffer);
+        this.snapshot = snapshot;
     }
 
     @Override
     public void fromBytes(@NotNull final FriendlyByteBuf buf)
     {
-        this.buffer = new FriendlyByteBuf(buf.retain());
+        this.snapshot = SyncSnapshot.read(SyncSnapshot.Type.COMPATIBILITY, buf);
     }
 
     @Override
     public void toBytes(@NotNull final FriendlyByteBuf buf)
     {
-        this.buffer.resetReaderIndex();
-        buf.writeBytes(this.buffer);
+        this.snapshot.write(buf);
     }
 
     @Nullable
@@ -61,19 +58,11 @@ public class UpdateClientWithCompatibilityMessage implements IMessage
         return LogicalSide.CLIENT;
     }
 
+    @OnlyIn(Dist.CLIENT)
     @Override
     public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
     {
-        final ClientLevel world = Minecraft.getInstance().level;
-        FurnaceRecipes.getInstance().loadUtilityPredicates();
-        try
-        {
-            IMinecoloniesAPI.getInstance().getColonyManager().getCompatibilityManager().deserialize(this.buffer, world);
-        }
-        catch (Exception e)
-        {
-            Log.getLogger().error("Failed to load compatibility manager", e);
-        }
-        this.buffer.release();
+        this.snapshot.writeCache();
+        this.snapshot.apply();
     }
 }
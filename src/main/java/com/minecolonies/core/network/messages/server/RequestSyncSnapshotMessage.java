@@ -0,0 +1,78 @@
+package com.minecolonies.core.network.messages.server;
+
+import com.minecolonies.api.network.IMessage;
+import com.minecolonies.core.network.SyncSnapshot;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraftforge.fml.LogicalSide;
+import net.minecraftforge.network.NetworkEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Answers the hash of a synced data set, requesting the data if the client had no cached copy of the current snapshot.
+ */
+public class RequestSyncSnapshotMessage implements IMessage
+{
+    /**
+     * The synced data set.
+     */
+    private SyncSnapshot.Type type;
+
+    /**
+     * If the client has no cached copy and needs the data.
+     */
+    private boolean needsData;
+
+    /**
+     * Empty constructor used when registering the message
+     */
+    public RequestSyncSnapshotMessage()
+    {
+        super();
+    }
+
+    /**
+     * Answer the hash of a snapshot.
+     *
+     * @param type      the synced data set.
+     * @param needsData if the client has no cached copy and needs the data.
+     */
+    public RequestSyncSnapshotMessage(final SyncSnapshot.Type type, final boolean needsData)
+    {
+        super();
+        this.type = type;
+        this.needsData = needsData;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        type = buf.readEnum(SyncSnapshot.Type.class);
+        needsData = buf.readBoolean();
+    }
+
+    @Override
+    public void toBytes(@NotNull final FriendlyByteBuf buf)
+    {
+        buf.writeEnum(type);
+        buf.writeBoolean(needsData);
+    }
+
+    @Nullable
+    @Override
+    public LogicalSide getExecutionSide()
+    {
+        return LogicalSide.SERVER;
+    }
+
+    @Override
+    public void onExecute(final NetworkEvent.Context ctxIn, final boolean isLogicalServer)
+    {
+        final ServerPlayer player = ctxIn.getSender();
+        if (player != null)
+        {
+            SyncSnapshot.onAnswer(player, type, needsData);
+        }
+    }
+}
@@ -17,6 +17,16 @@ import static com.minecolonies.api.util.constant.NbtTagConstants.*;
  */
 public class QuestManager implements IQuestManager
 {
+    /**
+     * The quests which list a given quest as parent, built from the global quests.
+     */
+    private static final Map<ResourceLocation, List<ResourceLocation>> QUEST_CHILDREN = new HashMap<>();
+
+    /**
+     * Incremented whenever the global quests are reloaded, so colonies know to rebuild their eligible quests.
+     */
+    private static int questIndexVersion = 0;
+
     /**
      * All quests that have been unlocked.
      */
@@ -52,6 +62,21 @@ public class QuestManager implements IQuestManager
      */
     private final IColony colony;
 
+    /**
+     * Quests which have all their parents finished and did not reach their max occurrence yet, so their triggers are worth checking.
+     */
+    private final Set<ResourceLocation> eligibleQuests = new HashSet<>();
+
+    /**
+     * The quest index version the eligible quests were built for, -1 if they have to be rebuilt.
+     */
+    private int eligibleQuestsVersion = -1;
+
+    /**
+     * Quests whose triggers only depend on the quest inputs and failed to start, with the {@link #getQuestInputs() quest inputs} they failed with.
+     */
+    private final Map<ResourceLocation, Integer> failedStarts = new HashMap<>();
+
     public QuestManager(final IColony colony)
     {
         this.colony = colony;
@@ -98,39 +123,104 @@ public class QuestManager implements IQuestManager
         }
 
         finishedQuestsCache = null;
+        updateEligibility(questId);
+        for (final ResourceLocation child : QUEST_CHILDREN.getOrDefault(questId, Collections.emptyList()))
+        {
+            updateEligibility(child);
+        }
+    }
+
+    /**
+     * Rebuild the quest index after the global quests were reloaded.
+     */
+    public static void onQuestsReloaded()
+    {
+        QUEST_CHILDREN.clear();
+        for (final Map.Entry<ResourceLocation, IQuestTemplate> quest : GLOBAL_SERVER_QUESTS.entrySet())
+        {
+            for (final ResourceLocation parent : quest.getValue().getParents())
+            {
+                QUEST_CHILDREN.computeIfAbsent(parent, id -> new ArrayList<>()).add(quest.getKey());
+            }
+        }
+        questIndexVersion++;
+    }
+
+    /**
+     * Rebuild the eligible quests of this colony from all global quests.
+     */
+    private void rebuildEligibleQuests()
+    {
+        eligibleQuests.clear();
+        failedStarts.clear();
+        for (final ResourceLocation questId : GLOBAL_SERVER_QUESTS.keySet())
+        {
+            updateEligibility(questId);
+        }
+        eligibleQuestsVersion = questIndexVersion;
+    }
+
+    /**
+     * Check if a quest has all its parents finished and can still occur, and update the eligible quests.
+     *
+     * @param questId the id of the quest.
+     */
+    private void updateEligibility(final ResourceLocation questId)
+    {
+        final IQuestTemplate quest = GLOBAL_SERVER_QUESTS.get(questId);
+        if (quest == null || finishedQuests.getOrDefault(questId, 0) >= quest.getMaxOccurrence())
+        {
+            eligibleQuests.remove(questId);
+            return;
+        }
+
+        for (final ResourceLocation parent : quest.getParents())
+        {
+            if (!finishedQuests.containsKey(parent))
+            {
+                eligibleQuests.remove(questId);
+                return;
+            }
+        }
+        eligibleQuests.add(questId);
     }
 
     @Override
     public void onColonyTick()
     {
-        for (final Map.Entry<ResourceLocation, IQuestTemplate> quest : GLOBAL_SERVER_QUESTS.entrySet())
+        if (eligibleQuestsVersion != questIndexVersion)
+        {
+            rebuildEligibleQuests();
+        }
+
+        final int questInputs = getQuestInputs();
+        for (final ResourceLocation questId : eligibleQuests)
         {
-            if (availableQuests.containsKey(quest.getKey())
-                  || inProgressQuests.containsKey(quest.getKey())
-                  || finishedQuests.getOrDefault(quest.getKey(), 0) >= quest.getValue().getMaxOccurrence())
+            if (availableQuests.containsKey(questId) || inProgressQuests.containsKey(questId))
             {
                 continue;
             }
 
-            boolean missingParent = false;
-            for (final ResourceLocation parent: quest.getValue().getParents())
+            final IQuestTemplate quest = GLOBAL_SERVER_QUESTS.get(questId);
+            if (quest == null)
             {
-                if (!finishedQuests.containsKey(parent))
-                {
-                    missingParent = true;
-                    break;
-                }
+                continue;
             }
 
-            if (missingParent)
+            if (quest.dependsOnQuestInputsOnly() && failedStarts.getOrDefault(questId, ~questInputs) == questInputs)
             {
                 continue;
             }
 
-            final IQuestInstance colonyQuest = quest.getValue().attemptStart(colony);
+            final IQuestInstance colonyQuest = quest.attemptStart(colony);
             if (colonyQuest != null)
             {
-                this.availableQuests.put(quest.getKey(), colonyQuest);
+                this.availableQuests.put(questId, colonyQuest);
+                failedStarts.remove(questId);
+            }
+            else if (quest.dependsOnQuestInputsOnly())
+            {
+                failedStarts.put(questId, questInputs);
             }
         }
 
@@ -153,6 +243,16 @@ public class QuestManager implements IQuestManager
         }
     }
 
+    /**
+     * Get the hash of the colony values the {@link IQuestTriggerTemplate#dependsOnQuestInputsOnly() input bound} triggers read.
+     *
+     * @return the hash.
+     */
+    private int getQuestInputs()
+    {
+        return Objects.hash(questReputation, unlockedQuests, colony.getWorld().getDifficulty());
+    }
+
     @Override
     public void deleteQuest(final ResourceLocation questID)
     {
@@ -272,6 +372,7 @@ public class QuestManager implements IQuestManager
             this.finishedQuests.put(new ResourceLocation(((CompoundTag) element).getString(TAG_ID)), ((CompoundTag) element).getInt(TAG_QUANTITY));
         }
         finishedQuestsCache = null;
+        eligibleQuestsVersion = -1;
 
         this.unlockedQuests.clear();
         final ListTag unlockedListTag = nbt.getList(TAG_UNLOCKED, Tag.TAG_COMPOUND);
@@ -30,6 +30,11 @@ public class QuestTemplate implements IQuestTemplate
      */
     private final Function<IColony, List<ITriggerReturnData<?>>> questTriggerList;
 
+    /**
+     * If all triggers only depend on the quest reputation, the unlocked quests and the world difficulty.
+     */
+    private final boolean dependsOnQuestInputsOnly;
+
     private final List<IQuestObjectiveTemplate> objectives;
 
     private final List<IQuestRewardTemplate> questRewards;
@@ -58,11 +63,32 @@ public class QuestTemplate implements IQuestTemplate
     public QuestTemplate(final ResourceLocation questID, final Component name,
       final List<ResourceLocation> parents,
       final int maxOccurrence, final Function<IColony, List<ITriggerReturnData<?>>> questTriggerList, final List<IQuestObjectiveTemplate> questObjectives, final int questTimeout, final List<IQuestRewardTemplate> questRewards)
+    {
+        this(questID, name, parents, maxOccurrence, questTriggerList, false, questObjectives, questTimeout, questRewards);
+    }
+
+    /**
+     * Create new quest data.
+     * @param questID the id of the quest.
+     * @param name the name of the quest.
+     * @param parents the parent quests.
+     * @param maxOccurrence the max num of occurrences.
+     * @param questTriggerList the list of triggers.
+     * @param dependsOnQuestInputsOnly if all triggers only depend on the quest reputation, the unlocked quests and the world difficulty.
+     * @param questObjectives the quest objectives.
+     * @param questTimeout the time until it times out.
+     * @param questRewards its rewards
+     */
+    public QuestTemplate(final ResourceLocation questID, final Component name,
+      final List<ResourceLocation> parents,
+      final int maxOccurrence, final Function<IColony, List<ITriggerReturnData<?>>> questTriggerList, final boolean dependsOnQuestInputsOnly,
+      final List<IQuestObjectiveTemplate> questObjectives, final int questTimeout, final List<IQuestRewardTemplate> questRewards)
     {
         this.questID = questID;
         this.name = name;
         this.parents = parents;
         this.questTriggerList = questTriggerList;
+        this.dependsOnQuestInputsOnly = dependsOnQuestInputsOnly;
         this.maxOccurrence = maxOccurrence;
         this.objectives = questObjectives;
         this.questTimeout = questTimeout;
@@ -76,6 +102,12 @@ public class QuestTemplate implements IQuestTemplate
         return (triggerReturnData == null || triggerReturnData.isEmpty()) ? null : new QuestInstance(questID, colony, triggerReturnData);
     }
 
+    @Override
+    public boolean dependsOnQuestInputsOnly()
+    {
+        return dependsOnQuestInputsOnly;
+    }
+
     @Override
     public int getQuestTimeout()
     {
@@ -39,4 +39,10 @@ public class QuestReputationTriggerTemplate implements IQuestTriggerTemplate
     {
         return new BooleanTriggerReturnData(colony.getQuestManager().getReputation() >= minQuantity);
     }
+
+    @Override
+    public boolean dependsOnQuestInputsOnly()
+    {
+        return true;
+    }
 }
@@ -39,4 +39,10 @@ public class UnlockQuestTriggerTemplate implements IQuestTriggerTemplate
     {
         return new BooleanTriggerReturnData(colony.getQuestManager().isUnlocked(questId));
     }
+
+    @Override
+    public boolean dependsOnQuestInputsOnly()
+    {
+        return true;
+    }
 }
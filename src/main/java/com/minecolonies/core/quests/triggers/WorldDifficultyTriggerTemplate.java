@@ -40,4 +40,10 @@ public class WorldDifficultyTriggerTemplate implements IQuestTriggerTemplate
     {
         return new BooleanTriggerReturnData(colony.getWorld().getDifficulty() == difficulty);
     }
+
+    @Override
+    public boolean dependsOnQuestInputsOnly()
+    {
+        return true;
+    }
 }
@@ -10,6 +10,7 @@ import com.minecolonies.api.research.IGlobalResearchBranch;
 import com.minecolonies.api.research.IGlobalResearchTree;
 import com.minecolonies.api.research.IResearchRequirement;
 import com.minecolonies.api.research.effects.IResearchEffect;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.core.Network;
 import com.mojang.brigadier.exceptions.CommandSyntaxException;
@@ -121,6 +122,7 @@ public class GlobalResearchTree implements IGlobalResearchTree
         for (IResearchEffect<?> effect : research.getEffects())
         {
             researchEffectsIds.computeIfAbsent(effect.getId(), id -> new HashSet<>()).add(research);
+            ResearchEffectSlots.intern(effect.getId());
         }
         if (research.isAutostart())
         {
@@ -2,9 +2,11 @@ package com.minecolonies.core.research;
 
 import com.minecolonies.api.research.effects.IResearchEffect;
 import com.minecolonies.api.research.effects.IResearchEffectManager;
+import com.minecolonies.api.research.effects.ResearchEffectSlots;
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -18,6 +20,12 @@ public class ResearchEffectManager implements IResearchEffectManager
      */
     private final Map<ResourceLocation, IResearchEffect<?>> effectMap = new HashMap<>();
 
+    /**
+     * The strength of the unlocked effects, indexed by their {@link ResearchEffectSlots} slot. Replaced as a whole on updates and volatile, as effects may be
+     * applied on a worker thread while the server thread reads them.
+     */
+    private volatile double[] strengths = new double[0];
+
     @Override
     public <W extends IResearchEffect<?>> W getEffect(final ResourceLocation id, @NotNull final Class<W> type)
     {
@@ -32,14 +40,14 @@ public class ResearchEffectManager implements IResearchEffectManager
     @Override
     public double getEffectStrength(final ResourceLocation id)
     {
-        if(effectMap.containsKey(id))
-        {
-            if(effectMap.get(id) instanceof GlobalResearchEffect)
-            {
-                return ((GlobalResearchEffect)effectMap.get(id)).getEffect();
-            }
-        }
-        return 0;
+        return getEffectStrength(ResearchEffectSlots.getSlot(id));
+    }
+
+    @Override
+    public double getEffectStrength(final int slot)
+    {
+        final double[] current = strengths;
+        return slot >= 0 && slot < current.length ? current[slot] : 0;
     }
 
     @Override
@@ -51,11 +59,13 @@ public class ResearchEffectManager implements IResearchEffectManager
             if (effect.overrides(effectInMap))
             {
                 effectMap.put(effect.getId(), effect);
+                updateStrength(effect);
             }
         }
         else
         {
             effectMap.put(effect.getId(), effect);
+            updateStrength(effect);
         }
     }
 
@@ -63,5 +73,19 @@ public class ResearchEffectManager implements IResearchEffectManager
     public void removeAllEffects()
     {
         effectMap.clear();
+        strengths = new double[0];
+    }
+
+    /**
+     * Update the strength table for a newly applied effect.
+     *
+     * @param effect the effect.
+     */
+    private void updateStrength(final IResearchEffect<?> effect)
+    {
+        final int slot = ResearchEffectSlots.intern(effect.getId());
+        final double[] updated = slot < strengths.length ? strengths.clone() : Arrays.copyOf(strengths, slot + 1);
+        updated[slot] = effect instanceof GlobalResearchEffect globalEffect ? globalEffect.getEffect() : 0;
+        strengths = updated;
     }
 }
@@ -70,6 +70,11 @@ public final class WorkerUtil
      */
     private static final String LEVEL_SIGN_TEXT      = "level_placeholder";
 
+    /**
+     * Max distance to a common site for following its flow field.
+     */
+    private static final int COMMON_SITE_RANGE = 128;
+
     /**
      * List of tools to test blocks against, used for finding right tool.
      */
@@ -146,6 +151,34 @@ public final class WorkerUtil
         return true;
     }
 
+    /**
+     * Checks if a worker is at a site many citizens walk to, like the town hall or a rally point. If he isn't, sets his path to the site along the shared flow field of
+     * the site. Far away workers use the usual walking proxies.
+     *
+     * @param worker Worker to check.
+     * @param site   the site.
+     * @param range  Range to check in.
+     * @return True when within range, otherwise false.
+     */
+    public static boolean isWorkerAtCommonSiteWithMove(@NotNull final AbstractEntityCitizen worker, @NotNull final BlockPos site, final int range)
+    {
+        if (worker.blockPosition().distManhattan(site) > COMMON_SITE_RANGE)
+        {
+            return worker.isWorkerAtSiteWithMove(site, range);
+        }
+
+        if (EntityUtils.isLivingAtSite(worker, site.getX(), site.getY(), site.getZ(), range))
+        {
+            return true;
+        }
+
+        if (worker.getNavigation().isDone() || !site.equals(worker.getNavigation().getDesiredPos()))
+        {
+            worker.getNavigation().moveToCommonTarget(site, 1.0D);
+        }
+        return false;
+    }
+
     /**
      * Recalls the citizen, notifies player if not successful.
      *